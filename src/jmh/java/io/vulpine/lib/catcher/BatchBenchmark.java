@@ -0,0 +1,109 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk {@code Catcher.callAll} modes against calling
+ * {@link Catcher#call} in a loop over a large batch in which 1% of the
+ * elements fail.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark
+{
+  @Param({ "1000000" })
+  public int size;
+
+  private List < String > items;
+
+  private CheckedFunction < String, Integer > parse;
+
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final FailurePattern pattern = new FailurePattern(1);
+
+    items = new ArrayList <>(size);
+    for ( int i = 0; i < size; i++ ) {
+      items.add(pattern.next() ? "x" + i : Integer.toString(i));
+    }
+
+    parse = Integer::parseInt;
+    executor = Executors.newFixedThreadPool(
+      Runtime.getRuntime().availableProcessors()
+    );
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+  {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public Object[] baselineLoop()
+  {
+    final Object[] out = new Object[size];
+
+    for ( int i = 0; i < size; i++ ) {
+      final String item = items.get(i);
+      out[i] = Catcher.call(() -> Integer.parseInt(item), e -> null);
+    }
+
+    return out;
+  }
+
+  @Benchmark
+  public BatchResult < Integer > sequential()
+  {
+    return Catcher.callAll(items, parse);
+  }
+
+  @Benchmark
+  public IntBatchResult sequentialToInt()
+  {
+    return Catcher.callAllToInt(items, Integer::parseInt);
+  }
+
+  @Benchmark
+  public BatchResult < Integer > forkJoin()
+  {
+    return Catcher.callAllParallel(items, parse);
+  }
+
+  @Benchmark
+  public BatchResult < Integer > bounded()
+  {
+    return Catcher.callAll(
+      items,
+      parse,
+      Runtime.getRuntime().availableProcessors(),
+      executor
+    );
+  }
+}
@@ -0,0 +1,95 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares admitting calls through a {@link Bulkhead} and an
+ * {@link AdaptiveLimiter} against the equivalent guard built on a fair
+ * {@link Semaphore}, with every benchmark thread sharing one limiter.  The
+ * adaptive limiter is pinned to the same limit, so only the cost of it's
+ * bookkeeping is measured.
+ *
+ * With a limit of 64 every call is admitted; with a limit of 2 most calls are
+ * rejected and go to the fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class BulkheadBenchmark
+{
+  @Param({ "2", "64" })
+  public int limit;
+
+  private Bulkhead bulkhead;
+
+  private AdaptiveLimiter adaptive;
+
+  private Semaphore semaphore;
+
+  private CheckedSupplier < Integer > supplier;
+
+  private Function < Exception, Integer > fallback;
+
+  @Setup
+  public void setup()
+  {
+    bulkhead = new Bulkhead(limit);
+    adaptive = new AdaptiveLimiter(limit, limit, limit, Duration.ofSeconds(1));
+    semaphore = new Semaphore(limit, true);
+    supplier = () -> {
+      Blackhole.consumeCPU(64);
+      return 1;
+    };
+    fallback = e -> -1;
+  }
+
+  @Benchmark
+  public Integer bulkhead()
+  {
+    return bulkhead.call(supplier, fallback);
+  }
+
+  @Benchmark
+  public Integer adaptive()
+  {
+    return adaptive.call(supplier, fallback);
+  }
+
+  @Benchmark
+  public Integer semaphore()
+  {
+    if ( !semaphore.tryAcquire() ) {
+      return fallback.apply(null);
+    }
+
+    try {
+      return supplier.get();
+    } catch ( final Exception e ) {
+      return fallback.apply(e);
+    } finally {
+      semaphore.release();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the cost of counting outcomes and latencies on a single
+ * {@link CallSite} shared by every benchmark thread, against an uncounted
+ * {@link Catcher} call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class CallSiteBenchmark
+{
+  @State(Scope.Benchmark)
+  public static class Site
+  {
+    final CallSite site = Catcher.site("benchmark");
+
+    final LatencyHistogram histogram = new LatencyHistogram();
+  }
+
+  @State(Scope.Thread)
+  public static class Calls
+  {
+    @Param({ "0", "10" })
+    public int failurePercent;
+
+    CheckedSupplier < Integer > supplier;
+
+    Function < Exception, Integer > fallback;
+
+    long latency;
+
+    @Setup
+    public void setup()
+    {
+      final FailurePattern pattern = new FailurePattern(failurePercent);
+
+      supplier = () -> {
+        if ( pattern.next() ) {
+          throw FailurePattern.FAILURE;
+        }
+        return 1;
+      };
+      fallback = e -> -1;
+    }
+  }
+
+  @Benchmark
+  public Integer plain( final Calls calls )
+  {
+    return Catcher.call(calls.supplier, calls.fallback);
+  }
+
+  @Benchmark
+  public Integer site( final Site site, final Calls calls )
+  {
+    return site.site.call(calls.supplier, calls.fallback);
+  }
+
+  @Benchmark
+  public void record( final Site site, final Calls calls )
+  {
+    site.histogram.record(calls.latency++ & 0xFFFFF);
+  }
+}
@@ -0,0 +1,119 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedRunnable;
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Measures the overhead of each {@link Catcher#call} overload and of
+ * {@link Catcher#with} against an equivalent hand-written try/catch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatcherBenchmark
+{
+  @Param({ "0", "1", "50", "100" })
+  public int failurePercent;
+
+  private FailurePattern pattern;
+
+  private CheckedSupplier < Integer > supplier;
+
+  private CheckedRunnable runnable;
+
+  private Function < Exception, Integer > fallback;
+
+  private Consumer < Exception > handler;
+
+  private Supplier < Integer > alternative;
+
+  private int value;
+
+  @Setup
+  public void setup()
+  {
+    pattern = new FailurePattern(failurePercent);
+
+    supplier = () -> {
+      if ( pattern.next() ) {
+        throw FailurePattern.FAILURE;
+      }
+      return value++;
+    };
+
+    runnable = () -> {
+      if ( pattern.next() ) {
+        throw FailurePattern.FAILURE;
+      }
+      value++;
+    };
+
+    fallback = e -> -1;
+    handler = e -> value--;
+    alternative = () -> -1;
+  }
+
+  @Benchmark
+  public Integer baselineTryCatch()
+  {
+    try {
+      return supplier.get();
+    } catch ( final Exception e ) {
+      return fallback.apply(e);
+    }
+  }
+
+  @Benchmark
+  public void baselineTryCatchRunnable()
+  {
+    try {
+      runnable.run();
+    } catch ( final Exception e ) {
+      handler.accept(e);
+    }
+  }
+
+  @Benchmark
+  public Integer callWithFallback()
+  {
+    return Catcher.call(supplier, fallback);
+  }
+
+  @Benchmark
+  public Integer callWithHandlerAndFallback()
+  {
+    return Catcher.call(supplier, handler, alternative);
+  }
+
+  @Benchmark
+  public void callRunnable()
+  {
+    Catcher.call(runnable, handler);
+  }
+
+  @Benchmark
+  public void with( final Blackhole hole )
+  {
+    hole.consume(Catcher.with(supplier));
+  }
+}
@@ -0,0 +1,79 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Verifies that a fully successful 10 step {@link Chain} pipeline is scalar
+ * replaced by C2.
+ *
+ * Run with the GC profiler (the default for the {@code jmh} task) and check
+ * that {@code gc.alloc.rate.norm} is 0 bytes/op for {@link #tenSteps()}.  The
+ * steps pass their input through unchanged so that no boxing or value
+ * allocation is attributed to the pipeline itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+DoEscapeAnalysis")
+public class ChainAllocationBenchmark
+{
+  private final Object input = new Object();
+
+  private CheckedSupplier < Object > supplier;
+
+  private CheckedFunction < Object, Object > step;
+
+  private Consumer < Exception > handler;
+
+  @Setup
+  public void setup()
+  {
+    supplier = () -> input;
+    step = o -> o;
+    handler = e -> { };
+  }
+
+  @Benchmark
+  public Object tenSteps()
+  {
+    return Catcher.with(supplier)
+      .handle(handler)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .orElse(input);
+  }
+
+  @Benchmark
+  public Object baseline() throws Exception
+  {
+    Object out = supplier.get();
+    for ( int i = 0; i < 10; i++ ) {
+      out = step.apply(out);
+    }
+    return out;
+  }
+}
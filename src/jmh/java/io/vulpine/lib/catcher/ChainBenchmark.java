@@ -0,0 +1,117 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures {@link Chain} pipelines of varying length built from
+ * {@link Catcher#with}, {@link Chain#handle}, {@link Chain#apply} and
+ * {@link Chain#orElse(Object)} against an equivalent hand-written try/catch.
+ *
+ * Failing inputs throw from the first step so that the handler path through
+ * {@link Chain#apply} is exercised and every later step is skipped.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark
+{
+  @Param({ "1", "5", "20" })
+  public int steps;
+
+  @Param({ "0", "1", "50", "100" })
+  public int failurePercent;
+
+  private FailurePattern pattern;
+
+  private CheckedSupplier < Integer > supplier;
+
+  private CheckedFunction < Integer, Integer > first;
+
+  private CheckedFunction < Integer, Integer > step;
+
+  private Consumer < Exception > handler;
+
+  private LazyChain < Integer, Integer > lazy;
+
+  private int value;
+
+  private int handled;
+
+  @Setup
+  public void setup()
+  {
+    pattern = new FailurePattern(failurePercent);
+    supplier = () -> value++;
+    first = i -> {
+      if ( pattern.next() ) {
+        throw FailurePattern.FAILURE;
+      }
+      return i + 1;
+    };
+    step = i -> i + 1;
+    handler = e -> handled++;
+
+    LazyChain < Integer, Integer > fused = LazyChain.< Integer >start()
+      .handle(handler)
+      .apply(first);
+
+    for ( int i = 1; i < steps; i++ ) {
+      fused = fused.apply(step);
+    }
+
+    lazy = fused;
+  }
+
+  @Benchmark
+  public Integer baselineTryCatch()
+  {
+    try {
+      Integer out = first.apply(supplier.get());
+      for ( int i = 1; i < steps; i++ ) {
+        out = step.apply(out);
+      }
+      return out;
+    } catch ( final Exception e ) {
+      handler.accept(e);
+      return -1;
+    }
+  }
+
+  @Benchmark
+  public Integer pipeline()
+  {
+    Chain < Integer > chain = Catcher.with(supplier)
+      .handle(handler)
+      .apply(first);
+
+    for ( int i = 1; i < steps; i++ ) {
+      chain = chain.apply(step);
+    }
+
+    return chain.orElse(-1);
+  }
+
+  @Benchmark
+  public Integer lazy()
+  {
+    return lazy.orElse(value++, -1);
+  }
+}
@@ -0,0 +1,54 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the closed state cost of a shared {@link CircuitBreaker} under
+ * concurrent load against an unguarded {@link Catcher#call}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CircuitBreakerBenchmark
+{
+  private final CircuitBreaker breaker = new CircuitBreaker(
+    0.5,
+    100,
+    Duration.ofSeconds(10),
+    Duration.ofSeconds(1)
+  );
+
+  private final CheckedSupplier < Integer > supplier = () -> 1;
+
+  private final Function < Exception, Integer > fallback = e -> -1;
+
+  @Benchmark
+  public Integer baseline()
+  {
+    return Catcher.call(supplier, fallback);
+  }
+
+  @Benchmark
+  public Integer closed()
+  {
+    return breaker.call(supplier, fallback);
+  }
+}
@@ -0,0 +1,88 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the cost of library and user exceptions on expected failure
+ * paths.
+ *
+ * {@link #emptyGet()} catches the exception thrown by {@link Chain#get()} on
+ * an empty chain under each {@link ExceptionMode}.  {@link #userException()}
+ * and {@link #userStackless()} compare a supplier signalling failure with a
+ * plain {@link Exception} against one using {@link StacklessException}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionBenchmark
+{
+  @Param({ "FULL", "STACKLESS", "PREALLOCATED" })
+  public ExceptionMode mode;
+
+  private ExceptionMode previous;
+
+  private final Chain < Integer > empty = Chain.emptyChain();
+
+  private final CheckedSupplier < Integer > throwing = () -> {
+    throw new Exception("miss");
+  };
+
+  private final CheckedSupplier < Integer > stackless = () -> {
+    throw new StacklessException("miss");
+  };
+
+  private final Function < Exception, Integer > fallback = e -> -1;
+
+  @Setup
+  public void setup()
+  {
+    previous = Catcher.exceptionMode();
+    Catcher.exceptionMode(mode);
+  }
+
+  @TearDown
+  public void tearDown()
+  {
+    Catcher.exceptionMode(previous);
+  }
+
+  @Benchmark
+  public Integer emptyGet()
+  {
+    try {
+      return empty.get();
+    } catch ( final EmptyResultException e ) {
+      return -1;
+    }
+  }
+
+  @Benchmark
+  public Integer userException()
+  {
+    return Catcher.call(throwing, fallback);
+  }
+
+  @Benchmark
+  public Integer userStackless()
+  {
+    return Catcher.call(stackless, fallback);
+  }
+}
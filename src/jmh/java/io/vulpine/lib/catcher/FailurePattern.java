@@ -0,0 +1,54 @@
+package io.vulpine.lib.catcher;
+
+import java.util.Random;
+
+/**
+ * Deterministic sequence of pass/fail decisions used to drive benchmark inputs
+ * at a fixed failure rate.
+ *
+ * The sequence is shuffled with a fixed seed so that the branch predictor
+ * cannot learn it while still being reproducible between runs.
+ */
+final class FailurePattern
+{
+  private static final int SIZE = 1024;
+
+  private static final int MASK = SIZE - 1;
+
+  /**
+   * Shared exception thrown by failing inputs.  Preallocated so that the cost
+   * of filling in a stack trace does not drown out the cost of the code under
+   * measurement.
+   */
+  static final Exception FAILURE = new Exception("benchmark failure");
+
+  private final boolean[] fails;
+
+  private int cursor;
+
+  FailurePattern( final int percent )
+  {
+    fails = new boolean[SIZE];
+
+    final int count = SIZE * percent / 100;
+    for ( int i = 0; i < count; i++ ) {
+      fails[i] = true;
+    }
+
+    final Random random = new Random(0x5EED);
+    for ( int i = SIZE - 1; i > 0; i-- ) {
+      final int j = random.nextInt(i + 1);
+      final boolean tmp = fails[i];
+      fails[i] = fails[j];
+      fails[j] = tmp;
+    }
+  }
+
+  /**
+   * @return whether the next input should fail.
+   */
+  boolean next()
+  {
+    return fails[cursor++ & MASK];
+  }
+}
@@ -0,0 +1,99 @@
+package io.vulpine.lib.catcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Compares dispatching a mix of exception types through an instanceof ladder
+ * against a {@link HandlerTable}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerTableBenchmark
+{
+  private final Exception[] exceptions = {
+    new FileNotFoundException(),
+    new SocketTimeoutException(),
+    new IOException(),
+    new TimeoutException(),
+    new UncheckedIOException(new IOException()),
+    new NoSuchElementException(),
+    new IllegalStateException(),
+    new Exception(),
+  };
+
+  private Consumer < Exception > ladder;
+
+  private Consumer < Exception > table;
+
+  private int index;
+
+  private long[] counts;
+
+  @Setup
+  public void setup()
+  {
+    counts = new long[8];
+    ladder = e -> {
+      if ( e instanceof FileNotFoundException ) {
+        counts[0]++;
+      } else if ( e instanceof SocketTimeoutException ) {
+        counts[1]++;
+      } else if ( e instanceof IOException ) {
+        counts[2]++;
+      } else if ( e instanceof TimeoutException ) {
+        counts[3]++;
+      } else if ( e instanceof UncheckedIOException ) {
+        counts[4]++;
+      } else if ( e instanceof NoSuchElementException ) {
+        counts[5]++;
+      } else if ( e instanceof RuntimeException ) {
+        counts[6]++;
+      } else {
+        counts[7]++;
+      }
+    };
+    table = HandlerTable.create()
+      .on(FileNotFoundException.class, e -> counts[0]++)
+      .on(SocketTimeoutException.class, e -> counts[1]++)
+      .on(IOException.class, e -> counts[2]++)
+      .on(TimeoutException.class, e -> counts[3]++)
+      .on(UncheckedIOException.class, e -> counts[4]++)
+      .on(NoSuchElementException.class, e -> counts[5]++)
+      .on(RuntimeException.class, e -> counts[6]++)
+      .otherwise(e -> counts[7]++);
+  }
+
+  @Benchmark
+  public void ladder()
+  {
+    ladder.accept(exceptions[index++ & 7]);
+  }
+
+  @Benchmark
+  public void table()
+  {
+    table.accept(exceptions[index++ & 7]);
+  }
+}
@@ -0,0 +1,78 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency distribution of plain and hedged asynchronous calls to
+ * a supplier which usually takes 1ms but takes 50ms 2% of the time, as a
+ * dependency with a few slow replicas would.
+ *
+ * Run in sample mode, so that the reported p99 and above show the tail each
+ * approach leaves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HedgeBenchmark
+{
+  private ExecutorService executor;
+
+  private CheckedSupplier < Integer > supplier;
+
+  private CallSite site;
+
+  @Setup
+  public void setup()
+  {
+    executor = Executors.newCachedThreadPool();
+    supplier = () -> {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(50) == 0 ? 50 : 1);
+      return 1;
+    };
+    site = Catcher.site("hedge-benchmark");
+  }
+
+  @TearDown
+  public void tearDown()
+  {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public Integer plain() throws Exception
+  {
+    return Catcher.withAsync(supplier, executor).orElse(-1).get();
+  }
+
+  @Benchmark
+  public Integer hedged() throws Exception
+  {
+    return Catcher.hedge(supplier, Duration.ofMillis(5), executor).orElse(-1).get();
+  }
+
+  @Benchmark
+  public Integer hedgedBySite() throws Exception
+  {
+    return Catcher.hedge(supplier, site, executor).orElse(-1).get();
+  }
+}
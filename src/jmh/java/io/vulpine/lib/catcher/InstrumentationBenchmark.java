@@ -0,0 +1,138 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Shows that instrumented calls cost the same as hand written, uninstrumented
+ * code while {@link Catcher#instrument(boolean) instrumentation} is off.
+ *
+ * {@code baseline} is the body of {@code Catcher.call} written inline, and
+ * {@code call} runs with instrumentation off and should match it.
+ * {@code site} shows the cost of a call site's counters alone, and
+ * {@code chain} a Chain step, which records into the {@link StepHistory}
+ * while instrumentation is on.  The {@code *On} variants show the cost once
+ * instrumentation is switched on.  Every
+ * benchmark runs in it's own fork, so switching instrumentation on for one
+ * does not affect the others.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark
+{
+  @Param({ "0", "50" })
+  public int failurePercent;
+
+  private CheckedSupplier < Integer > supplier;
+
+  private CheckedFunction < Integer, Integer > step;
+
+  private Consumer < Exception > handler;
+
+  private Supplier < Integer > fallback;
+
+  private CallSite site;
+
+  private int handled;
+
+  @State(Scope.Benchmark)
+  public static class On
+  {
+    @Setup(Level.Trial)
+    public void on()
+    {
+      Catcher.instrument(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void off()
+    {
+      Catcher.instrument(false);
+    }
+  }
+
+  @Setup
+  public void setup()
+  {
+    final FailurePattern pattern = new FailurePattern(failurePercent);
+
+    supplier = () -> {
+      if ( pattern.next() ) {
+        throw FailurePattern.FAILURE;
+      }
+      return 1;
+    };
+    step = i -> i + 1;
+    handler = e -> handled++;
+    fallback = () -> -1;
+    site = Catcher.site("instrumentation-benchmark");
+  }
+
+  @Benchmark
+  public Integer baseline()
+  {
+    try {
+      return supplier.get();
+    } catch ( final Exception e ) {
+      handler.accept(e);
+      return fallback.get();
+    }
+  }
+
+  @Benchmark
+  public Integer call()
+  {
+    return Catcher.call(supplier, handler, fallback);
+  }
+
+  @Benchmark
+  public Integer callOn( final On on )
+  {
+    return Catcher.call(supplier, handler, fallback);
+  }
+
+  @Benchmark
+  public Integer site()
+  {
+    return site.call(supplier, handler, fallback);
+  }
+
+  @Benchmark
+  public Integer siteOn( final On on )
+  {
+    return site.call(supplier, handler, fallback);
+  }
+
+  @Benchmark
+  public Integer chain()
+  {
+    return Catcher.with(supplier).handle(handler).apply(step).orElse(-1);
+  }
+
+  @Benchmark
+  public Integer chainOn( final On on )
+  {
+    return Catcher.with(supplier).handle(handler).apply(step).orElse(-1);
+  }
+}
@@ -0,0 +1,78 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.catcher.function.CheckedIntSupplier;
+import io.vulpine.lib.catcher.function.CheckedIntUnaryOperator;
+import io.vulpine.lib.jcfi.CheckedFunction;
+import io.vulpine.lib.jcfi.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a boxed {@code Chain<Integer>} pipeline against the equivalent
+ * {@link IntChain} pipeline.
+ *
+ * Values are kept well outside the {@link Integer} cache range so that every
+ * boxed step allocates; compare {@code gc.alloc.rate.norm} between the two
+ * benchmarks to see the boxing eliminated by the primitive chain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveChainBenchmark
+{
+  private int counter;
+
+  private CheckedSupplier < Integer > boxedSupplier;
+
+  private CheckedFunction < Integer, Integer > boxedStep;
+
+  private CheckedIntSupplier intSupplier;
+
+  private CheckedIntUnaryOperator intStep;
+
+  @Setup
+  public void setup()
+  {
+    boxedSupplier = () -> 1_000_000 + counter++;
+    boxedStep = i -> i * 3 + 7;
+    intSupplier = () -> 1_000_000 + counter++;
+    intStep = i -> i * 3 + 7;
+  }
+
+  @Benchmark
+  public int boxed()
+  {
+    return Catcher.with(boxedSupplier)
+      .apply(boxedStep)
+      .apply(boxedStep)
+      .apply(boxedStep)
+      .apply(boxedStep)
+      .apply(boxedStep)
+      .orElse(-1);
+  }
+
+  @Benchmark
+  public int primitive()
+  {
+    return Catcher.withInt(intSupplier)
+      .apply(intStep)
+      .apply(intStep)
+      .apply(intStep)
+      .apply(intStep)
+      .apply(intStep)
+      .orElse(-1);
+  }
+}
@@ -0,0 +1,54 @@
+package io.vulpine.lib.catcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RateLimiter} calls from every benchmark thread against one
+ * shared limiter, both when every call is admitted and when nearly every
+ * call is rejected locally instead of reaching the dependency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class RateLimiterBenchmark
+{
+  private RateLimiter open;
+
+  private RateLimiter saturated;
+
+  @Setup
+  public void setup()
+  {
+    open = new RateLimiter(Integer.MAX_VALUE, Duration.ofNanos(Integer.MAX_VALUE));
+    saturated = new RateLimiter(1, Duration.ofSeconds(1));
+  }
+
+  @Benchmark
+  public Integer admitted()
+  {
+    return Catcher.call(() -> 1, open, Duration.ZERO, e -> -1);
+  }
+
+  @Benchmark
+  public Integer rejected()
+  {
+    return Catcher.call(() -> 1, saturated, Duration.ZERO, e -> -1);
+  }
+}
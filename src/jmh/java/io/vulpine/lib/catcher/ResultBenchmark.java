@@ -0,0 +1,85 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares equivalent 5 step {@link Chain} and {@link Result} pipelines at
+ * varying failure rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark
+{
+  @Param({ "0", "1", "50", "100" })
+  public int failurePercent;
+
+  private FailurePattern pattern;
+
+  private CheckedFunction < Integer, Integer > first;
+
+  private CheckedFunction < Integer, Integer > step;
+
+  private Consumer < Exception > handler;
+
+  private int value;
+
+  private int handled;
+
+  @Setup
+  public void setup()
+  {
+    pattern = new FailurePattern(failurePercent);
+    first = i -> {
+      if ( pattern.next() ) {
+        throw FailurePattern.FAILURE;
+      }
+      return i + 1;
+    };
+    step = i -> i + 1;
+    handler = e -> handled++;
+  }
+
+  @Benchmark
+  public Integer chain()
+  {
+    return Catcher.with(() -> value++)
+      .apply(first)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .handle(handler)
+      .orElse(-1);
+  }
+
+  @Benchmark
+  public Integer result()
+  {
+    return Result.of(() -> value++)
+      .apply(first)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .apply(step)
+      .handle(handler)
+      .orElse(-1);
+  }
+}
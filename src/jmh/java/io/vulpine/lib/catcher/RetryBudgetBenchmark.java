@@ -0,0 +1,44 @@
+package io.vulpine.lib.catcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures depositing into and withdrawing from a single {@link RetryBudget}
+ * shared by every benchmark thread, as it would be by every retrying call in
+ * the JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class RetryBudgetBenchmark
+{
+  private final RetryBudget budget = new RetryBudget(0.2, 10, Duration.ofSeconds(10));
+
+  @Benchmark
+  public void success()
+  {
+    budget.onSuccess();
+  }
+
+  @Benchmark
+  public boolean retry()
+  {
+    return budget.tryRetry();
+  }
+}
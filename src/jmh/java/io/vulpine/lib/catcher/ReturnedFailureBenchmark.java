@@ -0,0 +1,80 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares a {@link Chain} step reporting routine failures by throwing a new
+ * exception against one returning a {@link Result.Failure} built around a
+ * shared {@link StacklessException}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReturnedFailureBenchmark
+{
+  private static final Exception MISS = new StacklessException("miss");
+
+  @Param({ "0", "1", "50", "100" })
+  public int failurePercent;
+
+  private FailurePattern pattern;
+
+  private CheckedFunction < Integer, Integer > thrown;
+
+  private CheckedFunction < Integer, Result < Integer > > returned;
+
+  private Consumer < Exception > handler;
+
+  private int value;
+
+  private int handled;
+
+  @Setup
+  public void setup()
+  {
+    pattern = new FailurePattern(failurePercent);
+    thrown = i -> {
+      if ( pattern.next() ) {
+        throw new Exception("miss");
+      }
+      return i + 1;
+    };
+    returned = i -> pattern.next() ? Result.failure(MISS) : Result.success(i + 1);
+    handler = e -> handled++;
+  }
+
+  @Benchmark
+  public Integer thrown()
+  {
+    return Catcher.with(() -> value++)
+      .handle(handler)
+      .apply(thrown)
+      .orElse(-1);
+  }
+
+  @Benchmark
+  public Integer returned()
+  {
+    return Catcher.with(() -> value++)
+      .handle(handler)
+      .applyResult(returned)
+      .orElse(-1);
+  }
+}
@@ -0,0 +1,125 @@
+package io.vulpine.lib.catcher;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Failure tracking shared by the bulk call result types.
+ *
+ * Outcomes are stored as a struct of arrays rather than an object per
+ * element: a bitmap marks which elements failed, and the exceptions of failed
+ * elements are held in a sparse array sorted by element index.  Result values
+ * are held by the subclasses in a single array of the appropriate type.
+ */
+public abstract class AbstractBatchResult
+{
+  private final int size;
+
+  private final long[] failed;
+
+  private final int[] failureIndexes;
+
+  private final Exception[] failures;
+
+  AbstractBatchResult(
+    final int size,
+    final long[] failed,
+    final int[] failureIndexes,
+    final Exception[] failures
+  )
+  {
+    this.size = size;
+    this.failed = failed;
+    this.failureIndexes = failureIndexes;
+    this.failures = failures;
+  }
+
+  /**
+   * @return The number of elements processed.
+   */
+  public int size()
+  {
+    return size;
+  }
+
+  /**
+   * @return The number of elements processed without throwing.
+   */
+  public int successCount()
+  {
+    return size - failures.length;
+  }
+
+  /**
+   * @return The number of elements for which an exception was thrown.
+   */
+  public int failureCount()
+  {
+    return failures.length;
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return whether the element at the given index was processed without
+   *         throwing.
+   */
+  public boolean succeeded( final int index )
+  {
+    return ( failed[index >>> 6] & ( 1L << index ) ) == 0;
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The exception thrown while processing the element at the given
+   *         index, or null if it succeeded.
+   */
+  public Exception failure( final int index )
+  {
+    if ( succeeded(index) ) {
+      return null;
+    }
+
+    return failures[Arrays.binarySearch(failureIndexes, index)];
+  }
+
+  /**
+   * Calls the given consumer with each failure and it's element index, in
+   * index order.
+   *
+   * @param consumer Failure consumer
+   */
+  public void forEachFailure( final ObjIntConsumer < ? super Exception > consumer )
+  {
+    for ( int i = 0; i < failures.length; i++ ) {
+      consumer.accept(failures[i], failureIndexes[i]);
+    }
+  }
+
+  /**
+   * @return Stream of the indexes of elements which succeeded, in order.
+   */
+  public IntStream successIndexes()
+  {
+    return IntStream.range(0, size).filter(this::succeeded);
+  }
+
+  /**
+   * @return Stream of the indexes of elements which failed, in order.
+   */
+  public IntStream failureIndexes()
+  {
+    return Arrays.stream(failureIndexes);
+  }
+
+  /**
+   * @return Stream of the exceptions thrown, in element index order.
+   */
+  public Stream < Exception > failures()
+  {
+    return Arrays.stream(failures);
+  }
+}
@@ -0,0 +1,305 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency limiter which finds it's own limit from the behaviour of the
+ * dependency it guards, using additive increase, multiplicative decrease.
+ *
+ * Like a {@link Bulkhead}, calls beyond the current limit go straight to
+ * their fallback.  Unlike a Bulkhead, the limit moves:
+ * <ul>
+ *   <li>each call which succeeds within the slow call threshold while the
+ *   limiter is at least half full raises the limit by {@code 1 / limit}, so
+ *   the limit grows by about one per round of calls;</li>
+ *   <li>a call which throws, or takes longer than the slow call threshold,
+ *   cuts the limit by 10%.</li>
+ * </ul>
+ * Only calls started after the most recent cut can cause another, so a burst
+ * of failures from calls that were already in flight cuts the limit once,
+ * not once per call.  The limit therefore settles around the concurrency at
+ * which the dependency starts to slow down, and follows it as that changes.
+ *
+ * The limit and the number of calls in flight are each a single field
+ * updated with compare-and-set; no lock is taken.
+ *
+ * <pre>{@code
+ * static final AdaptiveLimiter INVENTORY =
+ *   new AdaptiveLimiter(10, 2, 200, Duration.ofMillis(250));
+ *
+ * Stock stock = INVENTORY.call(() -> inventory.find(sku), e -> Stock.UNKNOWN);
+ * }</pre>
+ */
+public final class AdaptiveLimiter
+{
+  private static final double BACKOFF = 0.9;
+
+  private static final AtomicIntegerFieldUpdater < AdaptiveLimiter > IN_FLIGHT =
+    AtomicIntegerFieldUpdater.newUpdater(AdaptiveLimiter.class, "inFlight");
+
+  private static final AtomicLongFieldUpdater < AdaptiveLimiter > LIMIT =
+    AtomicLongFieldUpdater.newUpdater(AdaptiveLimiter.class, "limitBits");
+
+  private static final AtomicLongFieldUpdater < AdaptiveLimiter > CUT_AT =
+    AtomicLongFieldUpdater.newUpdater(AdaptiveLimiter.class, "cutAt");
+
+  private final double minLimit;
+
+  private final double maxLimit;
+
+  private final long slowNanos;
+
+  private final LimitExceededException rejection;
+
+  private volatile int inFlight;
+
+  /**
+   * Current limit, as the raw bits of a double.
+   */
+  private volatile long limitBits;
+
+  /**
+   * Time of the most recent cut to the limit.
+   */
+  private volatile long cutAt;
+
+  /**
+   * @param initialLimit Limit to start from
+   * @param minLimit     Lowest the limit may be cut to
+   * @param maxLimit     Highest the limit may grow to
+   * @param slowCall     Duration beyond which a successful call is treated
+   *                     as a sign of overload, the same as a failure
+   *
+   * @throws IllegalArgumentException if the minimum limit is less than 1, or
+   *         the initial limit is not between the minimum and maximum.
+   */
+  public AdaptiveLimiter(
+    final int initialLimit,
+    final int minLimit,
+    final int maxLimit,
+    final Duration slowCall
+  )
+  {
+    if ( minLimit < 1 ) {
+      throw new IllegalArgumentException("minLimit must be at least 1");
+    }
+
+    if ( initialLimit < minLimit || initialLimit > maxLimit ) {
+      throw new IllegalArgumentException(
+        "initialLimit must be between minLimit and maxLimit"
+      );
+    }
+
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.slowNanos = slowCall.toNanos();
+    this.rejection = new LimitExceededException("Adaptive limit reached");
+    this.limitBits = Double.doubleToRawLongBits(initialLimit);
+    this.cutAt = System.nanoTime();
+  }
+
+  /**
+   * @return The current concurrency limit.
+   */
+  public int limit()
+  {
+    return (int) Double.longBitsToDouble(limitBits);
+  }
+
+  /**
+   * @return Number of calls currently running.
+   */
+  public int inFlight()
+  {
+    return inFlight;
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the fallback {@link Function}.
+   *
+   * If the current limit has been reached, the supplier is not invoked and
+   * the fallback receives a {@link LimitExceededException}.
+   *
+   * @param func     Supplier to attempt
+   * @param fallback Error Handler/Default value supplier
+   *
+   * @param <R> Return type of the given Supplier
+   *
+   * @return Either the result of the supplier or the fallback function.
+   *
+   * @throws NullPointerException if the fallback parameter is null whether it
+   *                              is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Function)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > func,
+    final Function < Exception, R > fallback
+  ) {
+    Objects.requireNonNull(fallback);
+
+    if ( !acquire() ) {
+      return Catcher.reject(fallback, rejection);
+    }
+
+    final long start = System.nanoTime();
+    final R out;
+
+    try {
+      out = func.get();
+    } catch ( final Exception e ) {
+      onDrop(start);
+      return Catcher.recover(fallback, e);
+    } catch ( final Error e ) {
+      onDrop(start);
+      throw e;
+    }
+
+    onSuccess(start);
+    return out;
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the given fallback {@link Supplier}.
+   *
+   * If an exception is thrown by the {@link CheckedSupplier}, or the current
+   * limit has been reached, the given handler will be called with the thrown
+   * {@link Exception} or a {@link LimitExceededException} respectively.
+   *
+   * @param supplier Value supplier
+   * @param handler  Exception handler
+   * @param fallback Fallback value supplier
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return Either the result of the {@link CheckedSupplier} or the fallback
+   *         {@link Supplier}.
+   *
+   * @throws NullPointerException if the handler or fallback parameter are null
+   *         whether it is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Consumer, Supplier)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > supplier,
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback
+  ) {
+    Objects.requireNonNull(handler);
+    Objects.requireNonNull(fallback);
+
+    if ( !acquire() ) {
+      return Catcher.reject(handler, fallback, rejection);
+    }
+
+    final long start = System.nanoTime();
+    final R out;
+
+    try {
+      out = supplier.get();
+    } catch ( final Exception e ) {
+      onDrop(start);
+      return Catcher.recover(handler, fallback, e);
+    } catch ( final Error e ) {
+      onDrop(start);
+      throw e;
+    }
+
+    onSuccess(start);
+    return out;
+  }
+
+  private boolean acquire()
+  {
+    final int cap = limit();
+
+    for ( int n = inFlight; n < cap; n = inFlight ) {
+      if ( IN_FLIGHT.compareAndSet(this, n, n + 1) ) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void onSuccess( final long start )
+  {
+    final long now = System.nanoTime();
+
+    if ( now - start > slowNanos ) {
+      cut(start, now);
+    } else {
+      grow();
+    }
+
+    IN_FLIGHT.getAndDecrement(this);
+  }
+
+  private void onDrop( final long start )
+  {
+    cut(start, System.nanoTime());
+    IN_FLIGHT.getAndDecrement(this);
+  }
+
+  /**
+   * Raises the limit by {@code 1 / limit}, if the limiter is busy enough for
+   * the current limit to matter.
+   */
+  private void grow()
+  {
+    while ( true ) {
+      final long bits = limitBits;
+      final double limit = Double.longBitsToDouble(bits);
+
+      if ( limit >= maxLimit || inFlight * 2 < limit ) {
+        return;
+      }
+
+      final double next = Math.min(maxLimit, limit + 1 / limit);
+
+      if ( LIMIT.compareAndSet(this, bits, Double.doubleToRawLongBits(next)) ) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Cuts the limit, unless it has already been cut since the given call
+   * started.
+   */
+  private void cut( final long start, final long now )
+  {
+    // Claim the cut for the current generation of calls first, so that
+    // concurrent failures make exactly one cut between them.
+    while ( true ) {
+      final long last = cutAt;
+
+      if ( start - last <= 0 ) {
+        return;
+      }
+
+      if ( CUT_AT.compareAndSet(this, last, now) ) {
+        break;
+      }
+    }
+
+    while ( true ) {
+      final long bits = limitBits;
+      final double next = Math.max(minLimit, Double.longBitsToDouble(bits) * BACKOFF);
+
+      if ( LIMIT.compareAndSet(this, bits, Double.doubleToRawLongBits(next)) ) {
+        return;
+      }
+    }
+  }
+}
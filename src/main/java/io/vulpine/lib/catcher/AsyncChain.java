@@ -0,0 +1,305 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link Chain}.
+ *
+ * Each step is run on the executor given at construction.  Internally this
+ * wraps a future of a {@link Chain} which never completes exceptionally due to
+ * a step failure; exceptions thrown by steps are held by the Chain itself,
+ * unwrapped, exactly as they would be for a synchronous Chain.  Handlers
+ * therefore see the original exception rather than a
+ * {@link CompletionException} wrapping it.
+ *
+ * @param <T> Type of the value contained in this chain.
+ */
+public final class AsyncChain < T >
+{
+  private final CompletableFuture < Chain < T > > future;
+
+  private final Executor executor;
+
+  AsyncChain(
+    final CompletableFuture < Chain < T > > future,
+    final Executor executor
+  )
+  {
+    this.future = future;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates an AsyncChain from the result of the given
+   * {@link CompletionStage}.
+   *
+   * If the stage completes exceptionally, the resulting chain will be empty
+   * and will carry the exception, stripped of any {@link CompletionException}
+   * or {@link ExecutionException} wrappers.
+   *
+   * @param stage    Stage providing the starting value of the chain
+   * @param executor Executor on which subsequent steps will be run
+   *
+   * @param <T> Stage result type.
+   *
+   * @return Result chain of the type returned by the given stage.
+   */
+  public static < T > AsyncChain < T > of(
+    final CompletionStage < T > stage,
+    final Executor executor
+  )
+  {
+    Objects.requireNonNull(executor);
+
+    return new AsyncChain <>(
+      stage.handle(AsyncChain::< T >settle).toCompletableFuture(),
+      executor
+    );
+  }
+
+  /**
+   * Applies the current value to the given method on this chain's executor.
+   *
+   * @param step function used to transform the current value (if any)
+   *
+   * @param <R> Transformed type returned from the given method after the Chain
+   *            value is applied.
+   *
+   * @return A new AsyncChain of the return type of the given function.
+   *
+   * @see Chain#apply(CheckedFunction)
+   */
+  public < R > AsyncChain < R > apply( final CheckedFunction < T, R > step )
+  {
+    if ( settledEmpty() ) {
+      return cast(this);
+    }
+
+    return new AsyncChain <>(
+      future.thenApplyAsync(c -> c.apply(step), executor),
+      executor
+    );
+  }
+
+  /**
+   * Applies the current value to the given asynchronous method on this chain's
+   * executor, continuing with the result of the returned stage.
+   *
+   * If the returned stage completes exceptionally, the exception is treated as
+   * if it had been thrown by the step itself.
+   *
+   * @param step function returning a stage of the transformed value.
+   *
+   * @param <R> Result type of the stage returned by the given method.
+   *
+   * @return A new AsyncChain of the result type of the returned stage.
+   */
+  public < R > AsyncChain < R > compose(
+    final CheckedFunction < T, ? extends CompletionStage < R > > step
+  )
+  {
+    if ( settledEmpty() ) {
+      return cast(this);
+    }
+
+    return new AsyncChain <>(
+      future.thenComposeAsync(c -> {
+        final Chain < ? extends CompletionStage < R > > staged = c.apply(step);
+
+        if ( staged.empty() ) {
+          return CompletableFuture.completedFuture(cast(staged));
+        }
+
+        return staged.get().handle(( v, t ) -> staged.apply(s -> {
+          if ( t != null ) {
+            throw unwrap(t);
+          }
+          return v;
+        }));
+      }, executor),
+      executor
+    );
+  }
+
+  /**
+   * Appends an exception handler to the Chain.
+   *
+   * The handler is run on this chain's executor.
+   *
+   * @param handler a {@link Consumer} for exception types.
+   *
+   * @return An AsyncChain with no modification to it's value.
+   *
+   * @see Chain#handle(Consumer)
+   */
+  public AsyncChain < T > handle( final Consumer < Exception > handler )
+  {
+    return new AsyncChain <>(
+      future.thenApplyAsync(c -> c.handle(handler), executor),
+      executor
+    );
+  }
+
+  /**
+   * Returns a future of the current value or the given alternative if no value
+   * is present.
+   *
+   * @param alternative Alternative value to returned in the event that this
+   *                    chain currently contains no value.
+   *
+   * @return future of the current T or given alternative T
+   */
+  public CompletableFuture < T > orElse( final T alternative )
+  {
+    return future.thenApply(c -> c.orElse(alternative));
+  }
+
+  /**
+   * Returns a future of the current value or the result of the given supplier
+   * if no value is present.
+   *
+   * The supplier is run on this chain's executor.
+   *
+   * @param supplier Supplier of an alternative value to be returned in the case
+   *                 where this Chain contains no value.
+   *
+   * @return future of the current T or result of given T supplier.
+   */
+  public CompletableFuture < T > orElse( final Supplier < T > supplier )
+  {
+    return future.thenApplyAsync(c -> c.orElse(supplier), executor);
+  }
+
+  /**
+   * Returns a future of the contained possible value as a Java option type.
+   *
+   * @return future of a possibly empty option representing this Chain's value.
+   */
+  public CompletableFuture < Optional < T > > asOptional()
+  {
+    return future.thenApply(Chain::asOptional);
+  }
+
+  /**
+   * Returns a future of the final synchronous {@link Chain} for this pipeline.
+   *
+   * The returned future only completes exceptionally if an {@link Error} was
+   * thrown by a step.
+   *
+   * @return future of the resulting Chain.
+   */
+  public CompletableFuture < Chain < T > > toChain()
+  {
+    return future.thenApply(c -> c);
+  }
+
+  /**
+   * Converts this chain to a plain {@link CompletableFuture} of its value.
+   *
+   * If the chain ends with an unhandled exception, the returned future is
+   * completed exceptionally with that exception directly, rather than with a
+   * {@link CompletionException} wrapping it.  If the chain ends empty with no
+   * exception, the future completes with {@code null}.
+   *
+   * @return future of the chain's value.
+   */
+  public CompletableFuture < T > toCompletableFuture()
+  {
+    final CompletableFuture < T > out = new CompletableFuture <>();
+
+    future.whenComplete(( c, t ) -> {
+      if ( t != null ) {
+        out.completeExceptionally(strip(t));
+      } else if ( c.exception() != null ) {
+        out.completeExceptionally(c.exception());
+      } else {
+        out.complete(c.orElse((T) null));
+      }
+    });
+
+    return out;
+  }
+
+  /**
+   * @return whether this chain has already settled without a value, in which
+   *         case further steps can be skipped without dispatching to the
+   *         executor.
+   */
+  private boolean settledEmpty()
+  {
+    final Chain < T > now = future.getNow(null);
+    return now != null && now.empty();
+  }
+
+  private static < T > Chain < T > settle( final T value, final Throwable t )
+  {
+    if ( t == null ) {
+      return value == null ? Chain.emptyChain() : new Chain <>(value, null, null);
+    }
+
+    return new Chain <>(null, null, unwrap(t));
+  }
+
+  /**
+   * Strips {@link CompletionException} and {@link ExecutionException} wrappers
+   * from the given throwable.
+   *
+   * @param t throwable to strip
+   *
+   * @return The innermost wrapped throwable.
+   */
+  static Throwable strip( Throwable t )
+  {
+    while (
+      ( t instanceof CompletionException || t instanceof ExecutionException )
+        && t.getCause() != null
+    ) {
+      t = t.getCause();
+    }
+
+    return t;
+  }
+
+  /**
+   * Strips the given throwable as with {@link #strip(Throwable)} and returns
+   * it as an {@link Exception}.
+   *
+   * @param w throwable to unwrap
+   *
+   * @return The innermost wrapped exception.
+   *
+   * @throws Error if the wrapped throwable is an Error.
+   */
+  static Exception unwrap( final Throwable w )
+  {
+    final Throwable t = strip(w);
+
+    if ( t instanceof Error ) {
+      throw (Error) t;
+    }
+
+    return t instanceof Exception ? (Exception) t : new Exception(t);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static < R > AsyncChain < R > cast( final AsyncChain < ? > chain )
+  {
+    return (AsyncChain < R >) chain;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static < R > Chain < R > cast( final Chain < ? > chain )
+  {
+    return (Chain < R >) chain;
+  }
+}
@@ -0,0 +1,80 @@
+package io.vulpine.lib.catcher;
+
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Per-element outcomes of a bulk call.
+ *
+ * Each index holds either the value returned for the input at the same index
+ * or the exception thrown while processing it.
+ *
+ * @param <R> Type of the successful results.
+ */
+public final class BatchResult < R > extends AbstractBatchResult
+{
+  private final Object[] values;
+
+  BatchResult(
+    final Object[] values,
+    final long[] failed,
+    final int[] failureIndexes,
+    final Exception[] failures
+  )
+  {
+    super(values.length, failed, failureIndexes, failures);
+    this.values = values;
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The result for the element at the given index, or null if
+   *         processing it failed.
+   */
+  @SuppressWarnings("unchecked")
+  public R value( final int index )
+  {
+    return (R) values[index];
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The outcome of the element at the given index as a Chain.
+   */
+  public Chain < R > chain( final int index )
+  {
+    final Exception e = failure(index);
+
+    if ( e != null ) {
+      return new Chain <>(null, null, e);
+    }
+
+    final R value = value(index);
+    return value == null ? Chain.emptyChain() : new Chain <>(value, null, null);
+  }
+
+  /**
+   * Calls the given consumer with each successful result and it's element
+   * index, in index order.
+   *
+   * @param consumer Result consumer
+   */
+  public void forEachSuccess( final ObjIntConsumer < ? super R > consumer )
+  {
+    for ( int i = 0; i < values.length; i++ ) {
+      if ( succeeded(i) ) {
+        consumer.accept(value(i), i);
+      }
+    }
+  }
+
+  /**
+   * @return Stream of the successful results, in element index order.
+   */
+  public Stream < R > values()
+  {
+    return successIndexes().mapToObj(this::value);
+  }
+}
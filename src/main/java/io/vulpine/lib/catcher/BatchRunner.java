@@ -0,0 +1,402 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.catcher.function.CheckedToDoubleFunction;
+import io.vulpine.lib.catcher.function.CheckedToIntFunction;
+import io.vulpine.lib.catcher.function.CheckedToLongFunction;
+import io.vulpine.lib.jcfi.CheckedFunction;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execution strategies backing the bulk {@code Catcher.callAll} methods.
+ *
+ * The input is split into chunks whose sizes are a multiple of 64, so that
+ * each word of the failure bitmap is only ever written by the worker owning
+ * that chunk.  Each chunk records it's failures in a private sparse list,
+ * and the lists are concatenated in chunk order once every chunk has run.
+ * Workers therefore never contend on shared state beyond claiming work, and
+ * no per-element lambda or wrapper is allocated.
+ */
+final class BatchRunner
+{
+  /**
+   * Number of chunks per worker the input is split into, to even out uneven
+   * per-element costs.
+   */
+  private static final int CHUNKS_PER_WORKER = 8;
+
+  private static final int MIN_CHUNK = 64;
+
+  private final Kernel kernel;
+
+  private final int size;
+
+  private final int chunk;
+
+  private final int chunks;
+
+  private final long[] failed;
+
+  private final Failures[] failures;
+
+  private BatchRunner( final Kernel kernel, final int size, final int workers )
+  {
+    final int target = size / ( workers * CHUNKS_PER_WORKER );
+
+    this.kernel = kernel;
+    this.size = size;
+    this.chunk = workers == 1
+      ? Math.max(MIN_CHUNK, size)
+      : Math.max(MIN_CHUNK, ( target + MIN_CHUNK - 1 ) & -MIN_CHUNK);
+    this.chunks = ( size + chunk - 1 ) / chunk;
+    this.failed = new long[( size + 63 ) >>> 6];
+    this.failures = new Failures[chunks];
+  }
+
+  static < T, R > BatchResult < R > objects(
+    final List < ? extends T > items,
+    final CheckedFunction < ? super T, ? extends R > fn,
+    final Mode mode
+  ) {
+    final Object[] values = new Object[items.size()];
+    final BatchRunner run = mode.run(
+      i -> values[i] = fn.apply(items.get(i)),
+      values.length
+    );
+
+    return new BatchResult <>(values, run.failed, run.indexes(), run.exceptions());
+  }
+
+  static < T > IntBatchResult ints(
+    final List < ? extends T > items,
+    final CheckedToIntFunction < ? super T > fn,
+    final Mode mode
+  ) {
+    final int[] values = new int[items.size()];
+    final BatchRunner run = mode.run(
+      i -> values[i] = fn.applyAsInt(items.get(i)),
+      values.length
+    );
+
+    return new IntBatchResult(values, run.failed, run.indexes(), run.exceptions());
+  }
+
+  static < T > LongBatchResult longs(
+    final List < ? extends T > items,
+    final CheckedToLongFunction < ? super T > fn,
+    final Mode mode
+  ) {
+    final long[] values = new long[items.size()];
+    final BatchRunner run = mode.run(
+      i -> values[i] = fn.applyAsLong(items.get(i)),
+      values.length
+    );
+
+    return new LongBatchResult(values, run.failed, run.indexes(), run.exceptions());
+  }
+
+  static < T > DoubleBatchResult doubles(
+    final List < ? extends T > items,
+    final CheckedToDoubleFunction < ? super T > fn,
+    final Mode mode
+  ) {
+    final double[] values = new double[items.size()];
+    final BatchRunner run = mode.run(
+      i -> values[i] = fn.applyAsDouble(items.get(i)),
+      values.length
+    );
+
+    return new DoubleBatchResult(values, run.failed, run.indexes(), run.exceptions());
+  }
+
+  /**
+   * Processes every element of the given chunk.
+   */
+  private void run( final int c )
+  {
+    final int from = c * chunk;
+    final int to = Math.min(size, from + chunk);
+
+    Failures local = null;
+
+    for ( int i = from; i < to; i++ ) {
+      try {
+        kernel.apply(i);
+      } catch ( final Exception e ) {
+        Flight.caught(null, e);
+        failed[i >>> 6] |= 1L << i;
+
+        if ( local == null ) {
+          local = new Failures();
+        }
+
+        local.add(i, e);
+      }
+    }
+
+    failures[c] = local;
+  }
+
+  private int failureCount()
+  {
+    int n = 0;
+
+    for ( final Failures f : failures ) {
+      if ( f != null ) {
+        n += f.size;
+      }
+    }
+
+    return n;
+  }
+
+  private int[] indexes()
+  {
+    final int[] out = new int[failureCount()];
+
+    int pos = 0;
+    for ( final Failures f : failures ) {
+      if ( f != null ) {
+        System.arraycopy(f.indexes, 0, out, pos, f.size);
+        pos += f.size;
+      }
+    }
+
+    return out;
+  }
+
+  private Exception[] exceptions()
+  {
+    final Exception[] out = new Exception[failureCount()];
+
+    int pos = 0;
+    for ( final Failures f : failures ) {
+      if ( f != null ) {
+        System.arraycopy(f.exceptions, 0, out, pos, f.size);
+        pos += f.size;
+      }
+    }
+
+    return out;
+  }
+
+  /**
+   * Applies the bulk function to a single element, storing it's result.
+   */
+  @FunctionalInterface
+  interface Kernel
+  {
+    void apply( int index ) throws Exception;
+  }
+
+  /**
+   * Strategy used to run every chunk of a batch.
+   */
+  abstract static class Mode
+  {
+    static final Mode SEQUENTIAL = new Mode()
+    {
+      @Override
+      BatchRunner run( final Kernel kernel, final int size )
+      {
+        final BatchRunner run = new BatchRunner(kernel, size, 1);
+
+        for ( int c = 0; c < run.chunks; c++ ) {
+          run.run(c);
+        }
+
+        return run;
+      }
+    };
+
+    static Mode parallel( final ForkJoinPool pool )
+    {
+      return new Mode()
+      {
+        @Override
+        BatchRunner run( final Kernel kernel, final int size )
+        {
+          final BatchRunner run = new BatchRunner(
+            kernel,
+            size,
+            pool.getParallelism()
+          );
+
+          pool.invoke(new Split(run, 0, run.chunks));
+
+          return run;
+        }
+      };
+    }
+
+    static Mode bounded( final int concurrency, final Executor executor )
+    {
+      return new Mode()
+      {
+        @Override
+        BatchRunner run( final Kernel kernel, final int size )
+        {
+          final BatchRunner run = new BatchRunner(kernel, size, concurrency);
+          final Claim claim = new Claim(run);
+
+          // The calling thread is one of the workers, so at most
+          // concurrency - 1 executor threads are used.
+          for ( int i = 1; i < concurrency; i++ ) {
+            try {
+              executor.execute(claim);
+            } catch ( final RejectedExecutionException e ) {
+              // The remaining workers, including the caller, pick up the
+              // slack.
+              break;
+            }
+          }
+
+          claim.work();
+          claim.await();
+
+          return run;
+        }
+      };
+    }
+
+    abstract BatchRunner run( Kernel kernel, int size );
+  }
+
+  /**
+   * Growable sparse list of the failures within one chunk.
+   */
+  private static final class Failures
+  {
+    private int[] indexes = new int[4];
+
+    private Exception[] exceptions = new Exception[4];
+
+    private int size;
+
+    void add( final int index, final Exception e )
+    {
+      if ( size == indexes.length ) {
+        indexes = Arrays.copyOf(indexes, size * 2);
+        exceptions = Arrays.copyOf(exceptions, size * 2);
+      }
+
+      indexes[size] = index;
+      exceptions[size] = e;
+      size++;
+    }
+  }
+
+  private static final class Split extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final BatchRunner run;
+
+    private final int from;
+
+    private final int to;
+
+    Split( final BatchRunner run, final int from, final int to )
+    {
+      this.run = run;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if ( to - from <= 1 ) {
+        if ( to > from ) {
+          run.run(from);
+        }
+        return;
+      }
+
+      final int mid = ( from + to ) >>> 1;
+
+      invokeAll(new Split(run, from, mid), new Split(run, mid, to));
+    }
+  }
+
+  /**
+   * Work shared by the workers of a bounded run.  Workers repeatedly claim the
+   * next chunk until the input is exhausted.
+   *
+   * Completion is counted per chunk rather than per worker, so the caller
+   * only ever waits on chunks another worker has already claimed.  Executor
+   * tasks which have not started by the time the input is exhausted find no
+   * work and exit, and are never waited on; a bounded run may therefore be
+   * started from a thread of it's own, saturated, executor.
+   */
+  private static final class Claim implements Runnable
+  {
+    private final BatchRunner run;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final CountDownLatch done;
+
+    private volatile Error error;
+
+    Claim( final BatchRunner run )
+    {
+      this.run = run;
+      this.done = new CountDownLatch(run.chunks);
+    }
+
+    @Override
+    public void run()
+    {
+      try {
+        work();
+      } catch ( final Error e ) {
+        error = e;
+      }
+    }
+
+    void work()
+    {
+      for ( int c = next.getAndIncrement(); c < run.chunks; c = next.getAndIncrement() ) {
+        try {
+          run.run(c);
+        } finally {
+          done.countDown();
+        }
+      }
+    }
+
+    /**
+     * Waits for every claimed chunk to finish, deferring any interrupt until
+     * they have, as the results are not safe to read before then.
+     */
+    void await()
+    {
+      boolean interrupted = false;
+
+      while ( true ) {
+        try {
+          done.await();
+          break;
+        } catch ( final InterruptedException e ) {
+          interrupted = true;
+        }
+      }
+
+      if ( interrupted ) {
+        Thread.currentThread().interrupt();
+      }
+
+      if ( error != null ) {
+        throw error;
+      }
+    }
+  }
+}
@@ -0,0 +1,268 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of calls to a dependency running at once, isolating
+ * callers from a dependency that has become slow.
+ *
+ * Calls beyond the limit go straight to their fallback, optionally after
+ * waiting up to a bounded time for a call in flight to finish.  Permits are
+ * taken and returned with compare-and-set on a single counter; no lock is
+ * taken, and a call admitted without waiting costs one CAS to enter and one
+ * atomic decrement to leave.  Waiting is not fair: a newly arriving call may
+ * take a freed permit ahead of a waiting one.
+ *
+ * <pre>{@code
+ * static final Bulkhead INVENTORY = new Bulkhead(16, Duration.ofMillis(5));
+ *
+ * Stock stock = INVENTORY.call(() -> inventory.find(sku), e -> Stock.UNKNOWN);
+ * }</pre>
+ */
+public final class Bulkhead
+{
+  private static final AtomicIntegerFieldUpdater < Bulkhead > IN_FLIGHT =
+    AtomicIntegerFieldUpdater.newUpdater(Bulkhead.class, "inFlight");
+
+  private final int limit;
+
+  private final long waitNanos;
+
+  private final Queue < Thread > waiters = new ConcurrentLinkedQueue <>();
+
+  private final LimitExceededException rejection;
+
+  private volatile int inFlight;
+
+  /**
+   * Creates a bulkhead which rejects calls beyond the limit immediately.
+   *
+   * @param limit Maximum number of calls which may run at once
+   *
+   * @throws IllegalArgumentException if the given limit is less than 1.
+   */
+  public Bulkhead( final int limit )
+  {
+    this(limit, Duration.ZERO);
+  }
+
+  /**
+   * @param limit   Maximum number of calls which may run at once
+   * @param maxWait Maximum time a call beyond the limit waits for a permit
+   *                before being rejected
+   *
+   * @throws IllegalArgumentException if the given limit is less than 1, or the
+   *         given wait is negative.
+   */
+  public Bulkhead( final int limit, final Duration maxWait )
+  {
+    if ( limit < 1 ) {
+      throw new IllegalArgumentException("limit must be at least 1");
+    }
+
+    if ( maxWait.isNegative() ) {
+      throw new IllegalArgumentException("maxWait must not be negative");
+    }
+
+    this.limit = limit;
+    this.waitNanos = maxWait.toNanos();
+    this.rejection = new LimitExceededException("Bulkhead is full");
+  }
+
+  /**
+   * @return Maximum number of calls which may run at once.
+   */
+  public int limit()
+  {
+    return limit;
+  }
+
+  /**
+   * @return Number of calls currently running.
+   */
+  public int inFlight()
+  {
+    return inFlight;
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the fallback {@link Function}.
+   *
+   * If no permit is available within the configured wait, the supplier is not
+   * invoked and the fallback receives a {@link LimitExceededException}.
+   *
+   * @param func     Supplier to attempt
+   * @param fallback Error Handler/Default value supplier
+   *
+   * @param <R> Return type of the given Supplier
+   *
+   * @return Either the result of the supplier or the fallback function.
+   *
+   * @throws NullPointerException if the fallback parameter is null whether it
+   *                              is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Function)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > func,
+    final Function < Exception, R > fallback
+  ) {
+    Objects.requireNonNull(fallback);
+
+    if ( !acquire() ) {
+      return Catcher.reject(fallback, rejection);
+    }
+
+    final R out;
+
+    try {
+      out = func.get();
+    } catch ( final Exception e ) {
+      release();
+      return Catcher.recover(fallback, e);
+    } catch ( final Error e ) {
+      release();
+      throw e;
+    }
+
+    release();
+    return out;
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the given fallback {@link Supplier}.
+   *
+   * If an exception is thrown by the {@link CheckedSupplier}, or no permit is
+   * available within the configured wait, the given handler will be called
+   * with the thrown {@link Exception} or a {@link LimitExceededException}
+   * respectively.
+   *
+   * @param supplier Value supplier
+   * @param handler  Exception handler
+   * @param fallback Fallback value supplier
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return Either the result of the {@link CheckedSupplier} or the fallback
+   *         {@link Supplier}.
+   *
+   * @throws NullPointerException if the handler or fallback parameter are null
+   *         whether it is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Consumer, Supplier)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > supplier,
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback
+  ) {
+    Objects.requireNonNull(handler);
+    Objects.requireNonNull(fallback);
+
+    if ( !acquire() ) {
+      return Catcher.reject(handler, fallback, rejection);
+    }
+
+    final R out;
+
+    try {
+      out = supplier.get();
+    } catch ( final Exception e ) {
+      release();
+      return Catcher.recover(handler, fallback, e);
+    } catch ( final Error e ) {
+      release();
+      throw e;
+    }
+
+    release();
+    return out;
+  }
+
+  /**
+   * @return whether a permit was taken.
+   */
+  private boolean acquire()
+  {
+    return tryAcquire() || waitNanos > 0 && await();
+  }
+
+  private boolean tryAcquire()
+  {
+    for ( int n = inFlight; n < limit; n = inFlight ) {
+      if ( IN_FLIGHT.compareAndSet(this, n, n + 1) ) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Waits up to the configured time for a permit.  Gives up early, leaving
+   * the interrupt flag set, if the current thread is interrupted.
+   *
+   * @return whether a permit was taken.
+   */
+  private boolean await()
+  {
+    final Thread self = Thread.currentThread();
+    final long deadline = System.nanoTime() + waitNanos;
+
+    waiters.add(self);
+
+    try {
+      while ( true ) {
+        if ( tryAcquire() ) {
+          return true;
+        }
+
+        final long left = deadline - System.nanoTime();
+
+        if ( left <= 0 || self.isInterrupted() ) {
+          return false;
+        }
+
+        LockSupport.parkNanos(this, left);
+      }
+    } finally {
+      waiters.remove(self);
+
+      // A release may have woken this thread after it had already taken a
+      // permit by itself; pass the wake up on if another permit is free.
+      if ( inFlight < limit ) {
+        wake();
+      }
+    }
+  }
+
+  private void release()
+  {
+    IN_FLIGHT.getAndDecrement(this);
+
+    if ( !waiters.isEmpty() ) {
+      wake();
+    }
+  }
+
+  private void wake()
+  {
+    final Thread next = waiters.peek();
+
+    if ( next != null ) {
+      LockSupport.unpark(next);
+    }
+  }
+}
@@ -0,0 +1,474 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedRunnable;
+import io.vulpine.lib.jcfi.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Named call site, counting the outcome of every call made through it.
+ *
+ * Call sites are obtained with {@link Catcher#site(String)} and are unique
+ * per name, so the same site may be looked up wherever it is used.  Holding
+ * the site in a static field avoids the name lookup entirely.
+ *
+ * <pre>{@code
+ * static final CallSite LOOKUP = Catcher.site("inventory-lookup");
+ *
+ * Stock stock = LOOKUP.call(() -> inventory.find(sku), e -> Stock.UNKNOWN);
+ * }</pre>
+ *
+ * Every counter is a {@link LongAdder}, which spreads updates from
+ * contending threads across separate cells, so many threads calling through
+ * the same site do not serialize on a single cache line.  Failures are
+ * counted separately for each exception class; the counter for a class is
+ * created the first time it is seen and read without locking afterwards.
+ *
+ * While instrumentation is enabled (see {@link Catcher#instrument(boolean)}),
+ * each site also records latency histograms for the guarded call, split by
+ * whether it succeeded or failed, and for the fallback path (the handler and
+ * fallback together), so that a slow fallback is not hidden behind a fast
+ * failure.  While it is off no clock is read.
+ *
+ * Counts are read without stopping writers, so a read taken while calls are
+ * in flight is approximate.
+ */
+public final class CallSite
+{
+  /**
+   * Start time of calls made while instrumentation is disabled.
+   */
+  private static final long UNTIMED = Long.MIN_VALUE;
+
+  /**
+   * Percentile of recent latencies used as the hedge delay.
+   */
+  private static final double HEDGE_PERCENTILE = 95;
+
+  /**
+   * Latencies needed before the hedge delay is first derived or updated.
+   */
+  private static final int HEDGE_SAMPLES = 100;
+
+  private static final long HEDGE_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final AtomicLongFieldUpdater < CallSite > HEDGE_CHECKED =
+    AtomicLongFieldUpdater.newUpdater(CallSite.class, "hedgeChecked");
+
+  private static final ConcurrentMap < String, CallSite > SITES = new ConcurrentHashMap <>();
+
+  private final String name;
+
+  private final LongAdder successes = new LongAdder();
+
+  private final LongAdder fallbacks = new LongAdder();
+
+  private final LatencyHistogram successLatency = new LatencyHistogram();
+
+  private final LatencyHistogram failureLatency = new LatencyHistogram();
+
+  private final LatencyHistogram fallbackLatency = new LatencyHistogram();
+
+  /**
+   * Latencies of successful hedged call attempts, winning or not, which
+   * drive the hedge delay.  Kept apart from the instrumented histograms,
+   * which only see calls made through this site while instrumentation is
+   * enabled.
+   */
+  private final LatencyHistogram attemptLatency = new LatencyHistogram();
+
+  private final ConcurrentMap < Class < ? extends Exception >, LongAdder > failures =
+    new ConcurrentHashMap <>();
+
+  /**
+   * Current hedge delay in nanoseconds, or {@link Hedge#NEVER} until enough
+   * latencies have been seen.
+   */
+  private volatile long hedgeNanos = Hedge.NEVER;
+
+  /**
+   * Time the hedge delay was last checked for an update.
+   */
+  private volatile long hedgeChecked = System.nanoTime();
+
+  /**
+   * Cumulative attempt latency counts as of the last hedge delay update.
+   */
+  private volatile long[] hedgeCounts = new long[LatencyHistogram.BUCKETS];
+
+  private CallSite( final String name )
+  {
+    this.name = name;
+  }
+
+  static CallSite named( final String name )
+  {
+    Objects.requireNonNull(name);
+
+    final CallSite site = SITES.get(name);
+
+    return site != null ? site : SITES.computeIfAbsent(name, CallSite::new);
+  }
+
+  static Collection < CallSite > all()
+  {
+    return Collections.unmodifiableCollection(SITES.values());
+  }
+
+  /**
+   * @return The name of this call site.
+   */
+  public String name()
+  {
+    return name;
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the fallback {@link Function}, recording the outcome against
+   * this site.
+   *
+   * @param func     Supplier to attempt
+   * @param fallback Error Handler/Default value supplier
+   *
+   * @param <R> Return type of the given Supplier
+   *
+   * @return Either the result of the supplier or the fallback function.
+   *
+   * @throws NullPointerException if the fallback parameter is null whether it
+   *                              is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Function)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > func,
+    final Function < Exception, R > fallback
+  ) {
+    Objects.requireNonNull(fallback);
+
+    final long start = start();
+    final R out;
+
+    try {
+      out = func.get();
+    } catch ( final Exception e ) {
+      final long failed = failure(e, start);
+      final R alt = fallback.apply(e);
+      fallback(failed, e);
+      return alt;
+    }
+
+    success(start);
+    return out;
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the given fallback {@link Supplier}, recording the outcome
+   * against this site.
+   *
+   * @param supplier Value supplier
+   * @param handler  Exception handler
+   * @param fallback Fallback value supplier
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return Either the result of the {@link CheckedSupplier} or the fallback
+   *         {@link Supplier}.
+   *
+   * @throws NullPointerException if the handler or fallback parameter are null
+   *         whether it is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Consumer, Supplier)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > supplier,
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback
+  ) {
+    Objects.requireNonNull(handler);
+    Objects.requireNonNull(fallback);
+
+    final long start = start();
+    final R out;
+
+    try {
+      out = supplier.get();
+    } catch ( final Exception e ) {
+      final long failed = failure(e, start);
+      Flight.handle(name, handler, e);
+      final R alt = fallback.get();
+      fallback(failed, e);
+      return alt;
+    }
+
+    success(start);
+    return out;
+  }
+
+  /**
+   * Runs the given action, recording the outcome against this site.  If an
+   * exception is thrown it is passed to the given handler.
+   *
+   * @param action  Checked Action
+   * @param handler Exception Handler
+   *
+   * @throws NullPointerException if the given handler is null.  Will throw
+   *         regardless of whether or not the handler is used.
+   *
+   * @see Catcher#call(CheckedRunnable, Consumer)
+   */
+  public void call( final CheckedRunnable action, final Consumer < Exception > handler )
+  {
+    Objects.requireNonNull(handler);
+
+    final long start = start();
+
+    try {
+      action.run();
+    } catch ( final Exception e ) {
+      failure(e, start);
+      Flight.handle(name, handler, e);
+      return;
+    }
+
+    success(start);
+  }
+
+  /**
+   * @return Number of calls which completed without throwing.
+   */
+  public long successes()
+  {
+    return successes.sum();
+  }
+
+  /**
+   * @return Number of calls which threw an exception, of any class.
+   */
+  public long failures()
+  {
+    long n = 0;
+
+    for ( final LongAdder a : failures.values() ) {
+      n += a.sum();
+    }
+
+    return n;
+  }
+
+  /**
+   * @param type Exception class
+   *
+   * @return Number of calls which threw an exception of exactly the given
+   *         class.
+   */
+  public long failures( final Class < ? extends Exception > type )
+  {
+    final LongAdder a = failures.get(type);
+
+    return a == null ? 0 : a.sum();
+  }
+
+  /**
+   * @return Snapshot of the number of failed calls for each exception class
+   *         seen so far.
+   */
+  public Map < Class < ? extends Exception >, Long > failuresByType()
+  {
+    final Map < Class < ? extends Exception >, Long > out = new HashMap <>();
+
+    failures.forEach((k, v) -> out.put(k, v.sum()));
+
+    return out;
+  }
+
+  /**
+   * @return Number of times a fallback was used in place of a call's result.
+   */
+  public long fallbacks()
+  {
+    return fallbacks.sum();
+  }
+
+  /**
+   * @return Latencies of calls which completed without throwing.
+   */
+  public LatencyHistogram successLatency()
+  {
+    return successLatency;
+  }
+
+  /**
+   * @return Latencies of calls which threw an exception, up to the point the
+   *         exception was caught.
+   */
+  public LatencyHistogram failureLatency()
+  {
+    return failureLatency;
+  }
+
+  /**
+   * @return Time spent in the exception handler and fallback of each failed
+   *         call which used a fallback.
+   */
+  public LatencyHistogram fallbackLatency()
+  {
+    return fallbackLatency;
+  }
+
+  /**
+   * Returns the delay after which a hedged call made through this site
+   * launches it's second attempt: the 95th percentile of the latencies of
+   * recent successful attempts.
+   *
+   * The delay is recalculated at most once a second, from the latencies
+   * recorded since it was last calculated, once at least 100 have been
+   * recorded.  Until then no delay is known.
+   *
+   * @return The current hedge delay, if one is known yet.
+   *
+   * @see Catcher#hedge(CheckedSupplier, CallSite, RetryBudget, java.util.concurrent.Executor)
+   */
+  public Optional < Duration > hedgeDelay()
+  {
+    final long nanos = hedgeNanos();
+
+    return nanos == Hedge.NEVER ? Optional.empty() : Optional.of(Duration.ofNanos(nanos));
+  }
+
+  @Override
+  public String toString()
+  {
+    return "CallSite{" + name + ", successes=" + successes() + ", failures="
+      + failures() + ", fallbacks=" + fallbacks() + '}';
+  }
+
+  /**
+   * @return The current hedge delay in nanoseconds, or {@link Hedge#NEVER}.
+   */
+  long hedgeNanos()
+  {
+    final long now = System.nanoTime();
+    final long checked = hedgeChecked;
+
+    if ( now - checked >= HEDGE_REFRESH_NANOS
+      && HEDGE_CHECKED.compareAndSet(this, checked, now)
+    ) {
+      final long[] current = attemptLatency.counts();
+      final LatencySnapshot recent = new LatencySnapshot(
+        LatencyHistogram.delta(current, hedgeCounts)
+      );
+
+      if ( recent.count() >= HEDGE_SAMPLES ) {
+        hedgeNanos = recent.percentile(HEDGE_PERCENTILE).toNanos();
+        hedgeCounts = current;
+      }
+    }
+
+    return hedgeNanos;
+  }
+
+  /**
+   * @return Latencies of successful hedged call attempts made through this
+   *         site.
+   */
+  LatencyHistogram attemptLatency()
+  {
+    return attemptLatency;
+  }
+
+  /**
+   * Records the latency of a successful hedged call attempt, whether or not
+   * it was the attempt which completed the call.  Hedging depends on these
+   * latencies, so they are recorded whether or not instrumentation is
+   * enabled.
+   *
+   * @param nanos Attempt latency
+   */
+  void recordAttempt( final long nanos )
+  {
+    attemptLatency.record(nanos);
+  }
+
+  /**
+   * Records the outcome of a hedged call.
+   *
+   * @param e Exception the call failed with, or null if it succeeded
+   */
+  void recordOutcome( final Exception e )
+  {
+    if ( e == null ) {
+      successes.increment();
+    } else {
+      failure(e, UNTIMED);
+    }
+  }
+
+  private static long start()
+  {
+    return Instrumentation.enabled() ? System.nanoTime() : UNTIMED;
+  }
+
+  private void success( final long start )
+  {
+    if ( start != UNTIMED ) {
+      successLatency.record(System.nanoTime() - start);
+    }
+
+    successes.increment();
+  }
+
+  /**
+   * Records a failed call.
+   *
+   * @return The time at which the failure was recorded, or {@link #UNTIMED}
+   *         if the call was not timed.
+   */
+  private long failure( final Exception e, final long start )
+  {
+    final long now = start == UNTIMED ? UNTIMED : System.nanoTime();
+
+    if ( now != UNTIMED ) {
+      failureLatency.record(now - start);
+    }
+
+    Flight.caught(name, e);
+
+    final Class < ? extends Exception > type = e.getClass();
+
+    LongAdder a = failures.get(type);
+
+    if ( a == null ) {
+      a = failures.computeIfAbsent(type, k -> new LongAdder());
+    }
+
+    a.increment();
+
+    return now;
+  }
+
+  private void fallback( final long start, final Exception e )
+  {
+    if ( start != UNTIMED ) {
+      fallbackLatency.record(System.nanoTime() - start);
+    }
+
+    fallbacks.increment();
+    Flight.fallback(name, e);
+  }
+}
@@ -1,9 +1,26 @@
 package io.vulpine.lib.catcher;
 
+import io.vulpine.lib.catcher.function.CheckedDoubleSupplier;
+import io.vulpine.lib.catcher.function.CheckedIntSupplier;
+import io.vulpine.lib.catcher.function.CheckedLongSupplier;
+import io.vulpine.lib.catcher.function.CheckedToDoubleFunction;
+import io.vulpine.lib.catcher.function.CheckedToIntFunction;
+import io.vulpine.lib.catcher.function.CheckedToLongFunction;
+import io.vulpine.lib.jcfi.CheckedFunction;
 import io.vulpine.lib.jcfi.CheckedSupplier;
 import io.vulpine.lib.jcfi.CheckedRunnable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -33,7 +50,7 @@ public final class Catcher
     try {
       return func.get();
     } catch ( Exception e ) {
-      return fallback.apply(e);
+      return recover(fallback, e);
     }
   }
 
@@ -69,8 +86,7 @@ public final class Catcher
     try {
       return supplier.get();
     } catch ( Exception e ) {
-      handler.accept(e);
-      return fallback.get();
+      return recover(handler, fallback, e);
     }
   }
 
@@ -96,7 +112,238 @@ public final class Catcher
     try {
       action.run();
     } catch ( Exception e ) {
-      handler.accept(e);
+      handled(handler, e);
+    }
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the fallback {@link Function} if the supplier fails or does not
+   * complete within the given timeout.
+   *
+   * The supplier is run on the calling thread.  Deadlines are tracked by a
+   * single timer thread shared by all calls, which interrupts the calling
+   * thread once the timeout has passed.  Suppliers blocking in interruptible
+   * operations will therefore be cut short; suppliers ignoring interrupts will
+   * run to completion, but their result is discarded in favor of the
+   * fallback.  In either case any interrupt raised by the timer is cleared
+   * before this method returns, while an interrupt already pending when the
+   * call was made is kept.
+   *
+   * Because the timeout is delivered as an interrupt, any
+   * {@link java.nio.channels.InterruptibleChannel} the supplier is using when
+   * the timeout passes, such as a {@code FileChannel} or
+   * {@code SocketChannel}, is closed by the JVM and cannot be reused.
+   *
+   * @param func     Supplier to attempt
+   * @param timeout  Maximum time the supplier may run for
+   * @param fallback Error Handler/Default value supplier.  Receives a
+   *                 {@link TimeoutException} if the timeout passed.
+   *
+   * @param <R> Return type of the given Supplier
+   *
+   * @return Either the result of the supplier or the fallback function.
+   *
+   * @throws NullPointerException if the fallback parameter is null whether it
+   *                              is used or not.
+   */
+  public static < R > R call(
+    final CheckedSupplier < R > func,
+    final Duration timeout,
+    final Function < Exception, R > fallback
+  ) {
+    Objects.requireNonNull(fallback);
+
+    final boolean interrupted = Thread.currentThread().isInterrupted();
+    final TimerWheel.Timeout deadline = interruptAfter(timeout);
+    final R out;
+
+    try {
+      out = func.get();
+    } catch ( final Exception e ) {
+      return recover(fallback, expired(deadline, interrupted, timeout, e));
+    }
+
+    final Exception ex = expired(deadline, interrupted, timeout, null);
+
+    return ex == null ? out : recover(fallback, ex);
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the given fallback {@link Supplier} if the supplier fails or
+   * does not complete within the given timeout.
+   *
+   * If an exception is thrown by the {@link CheckedSupplier}, or the timeout
+   * passes, the given handler will be called with the thrown
+   * {@link Exception} or a {@link TimeoutException} respectively.
+   *
+   * @param supplier Value supplier
+   * @param timeout  Maximum time the supplier may run for
+   * @param handler  Exception handler
+   * @param fallback Fallback value supplier
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return Either the result of the {@link CheckedSupplier} or the fallback
+   *         {@link Supplier}.
+   *
+   * @throws NullPointerException if the handler or fallback parameter are null
+   *         whether it is used or not.
+   *
+   * @see #call(CheckedSupplier, Duration, Function)
+   */
+  public static < R > R call(
+    final CheckedSupplier < R > supplier,
+    final Duration timeout,
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback
+  ) {
+    Objects.requireNonNull(handler);
+    Objects.requireNonNull(fallback);
+
+    final boolean interrupted = Thread.currentThread().isInterrupted();
+    final TimerWheel.Timeout deadline = interruptAfter(timeout);
+    final R out;
+
+    try {
+      out = supplier.get();
+    } catch ( final Exception e ) {
+      return recover(handler, fallback, expired(deadline, interrupted, timeout, e));
+    }
+
+    final Exception ex = expired(deadline, interrupted, timeout, null);
+
+    if ( ex == null ) {
+      return out;
+    }
+
+    return recover(handler, fallback, ex);
+  }
+
+  /**
+   * Execute checked with a timeout.
+   *
+   * Runs the given action, if an exception is thrown or the action does not
+   * complete within the given timeout, the exception or a
+   * {@link TimeoutException} is passed to the given handler.
+   *
+   * @param action  Checked Action
+   * @param timeout Maximum time the action may run for
+   * @param handler Exception Handler
+   *
+   * @throws NullPointerException if the given handler is null.  Will throw
+   *         regardless of whether or not the handler is used.
+   *
+   * @see #call(CheckedSupplier, Duration, Function)
+   */
+  public static void call(
+    final CheckedRunnable action,
+    final Duration timeout,
+    final Consumer < Exception > handler
+  ) {
+    Objects.requireNonNull(handler);
+
+    final boolean interrupted = Thread.currentThread().isInterrupted();
+    final TimerWheel.Timeout deadline = interruptAfter(timeout);
+    Exception ex;
+
+    try {
+      action.run();
+      ex = expired(deadline, interrupted, timeout, null);
+    } catch ( final Exception e ) {
+      ex = expired(deadline, interrupted, timeout, e);
+    }
+
+    if ( ex != null ) {
+      handled(handler, ex);
+    }
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the fallback {@link Function}, taking a permit from the given
+   * rate limiter first.
+   *
+   * If no permit is available within the given wait, the supplier is not
+   * invoked and the fallback receives a {@link LimitExceededException}.  A
+   * wait of zero sends calls beyond the rate straight to the fallback.
+   *
+   * @param func     Supplier to attempt
+   * @param limiter  Rate limiter to take a permit from
+   * @param maxWait  Maximum time to wait for a permit
+   * @param fallback Error Handler/Default value supplier
+   *
+   * @param <R> Return type of the given Supplier
+   *
+   * @return Either the result of the supplier or the fallback function.
+   *
+   * @throws NullPointerException if the fallback parameter is null whether it
+   *                              is used or not.
+   */
+  public static < R > R call(
+    final CheckedSupplier < R > func,
+    final RateLimiter limiter,
+    final Duration maxWait,
+    final Function < Exception, R > fallback
+  ) {
+    Objects.requireNonNull(fallback);
+
+    if ( !limiter.tryAcquire(maxWait.toNanos()) ) {
+      return reject(fallback, limiter.rejection());
+    }
+
+    try {
+      return func.get();
+    } catch ( final Exception e ) {
+      return recover(fallback, e);
+    }
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the given fallback {@link Supplier}, taking a permit from the
+   * given rate limiter first.
+   *
+   * If an exception is thrown by the {@link CheckedSupplier}, or no permit is
+   * available within the given wait, the given handler will be called with
+   * the thrown {@link Exception} or a {@link LimitExceededException}
+   * respectively.
+   *
+   * @param supplier Value supplier
+   * @param limiter  Rate limiter to take a permit from
+   * @param maxWait  Maximum time to wait for a permit
+   * @param handler  Exception handler
+   * @param fallback Fallback value supplier
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return Either the result of the {@link CheckedSupplier} or the fallback
+   *         {@link Supplier}.
+   *
+   * @throws NullPointerException if the handler or fallback parameter are null
+   *         whether it is used or not.
+   *
+   * @see #call(CheckedSupplier, RateLimiter, Duration, Function)
+   */
+  public static < R > R call(
+    final CheckedSupplier < R > supplier,
+    final RateLimiter limiter,
+    final Duration maxWait,
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback
+  ) {
+    Objects.requireNonNull(handler);
+    Objects.requireNonNull(fallback);
+
+    if ( !limiter.tryAcquire(maxWait.toNanos()) ) {
+      return reject(handler, fallback, limiter.rejection());
+    }
+
+    try {
+      return supplier.get();
+    } catch ( final Exception e ) {
+      return recover(handler, fallback, e);
     }
   }
 
@@ -111,12 +358,873 @@ public final class Catcher
    */
   public static < R > Chain < R > with( final CheckedSupplier < R > sup )
   {
+    final R value;
 
     try {
-      return new Chain <> (sup.get(), null, null);
+      value = sup.get();
     } catch ( final Exception e ) {
+      Flight.caught(null, e);
+      return new Chain <> (null, null, e);
+    }
+
+    return value == null ? Chain.emptyChain() : new Chain <> (value, null, null);
+  }
+
+  /**
+   * Creates a result chain with the given {@link Result} supplier as the
+   * start.
+   *
+   * The supplier may report failure either by throwing or by returning a
+   * {@link Result.Failure}; both produce the same chain, but returning avoids
+   * the cost of throwing and catching an exception.  A supplier returning null
+   * rather than a Result produces an empty chain, as with
+   * {@link #with(CheckedSupplier)}.
+   *
+   * @param sup Supplier of the starting result
+   *
+   * @param <R> Value type of the supplied Result.
+   *
+   * @return Result Chain of the value type of the supplied Result.
+   *
+   * @see Chain#applyResult(CheckedFunction)
+   */
+  @SuppressWarnings("unchecked")
+  public static < R > Chain < R > withResult(
+    final CheckedSupplier < ? extends Result < ? extends R > > sup
+  ) {
+    final Result < ? extends R > result;
+
+    try {
+      result = sup.get();
+    } catch ( final Exception e ) {
+      Flight.caught(null, e);
+      return new Chain <> (null, null, e);
+    }
+
+    if ( result == null ) {
+      return Chain.emptyChain();
+    }
+
+    // Results are immutable, so widening the value type is safe.
+    return ( (Result < R >) result ).toChain();
+  }
+
+  /**
+   * Creates a result chain from the given {@link CheckedSupplier}, retrying it
+   * according to the given {@link RetryPolicy}.
+   *
+   * If the policy gives up, the chain will hold a {@link RetryException}
+   * carrying the number of attempts made and the last failure as it's cause.
+   *
+   * @param sup    Checked value supplier
+   * @param policy Retry policy
+   *
+   * @param <R> Supplier result type.
+   *
+   * @return Result Chain of the type returned by the given supplier.
+   */
+  public static < R > Chain < R > retry(
+    final CheckedSupplier < R > sup,
+    final RetryPolicy policy
+  ) {
+    final R value;
+
+    try {
+      value = policy.execute(sup);
+    } catch ( final RetryException e ) {
       return new Chain <> (null, null, e);
     }
 
+    return value == null ? Chain.emptyChain() : new Chain <> (value, null, null);
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, retried
+   * according to the given {@link RetryPolicy}, or the result of the fallback
+   * {@link Function}.
+   *
+   * @param func     Supplier to attempt
+   * @param policy   Retry policy
+   * @param fallback Error Handler/Default value supplier.  Receives a
+   *                 {@link RetryException} if the policy gave up.
+   *
+   * @param <R> Return type of the given Supplier
+   *
+   * @return Either the result of the supplier or the fallback function.
+   *
+   * @throws NullPointerException if the fallback parameter is null whether it
+   *                              is used or not.
+   */
+  public static < R > R retry(
+    final CheckedSupplier < R > func,
+    final RetryPolicy policy,
+    final Function < Exception, R > fallback
+  ) {
+    Objects.requireNonNull(fallback);
+
+    try {
+      return policy.execute(func);
+    } catch ( final RetryException e ) {
+      return reject(fallback, e);
+    }
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, retried
+   * according to the given {@link RetryPolicy}, or the result of the given
+   * fallback {@link Supplier}.
+   *
+   * If the policy gives up, the given handler will be called with a
+   * {@link RetryException} carrying the number of attempts made and the last
+   * failure as it's cause.
+   *
+   * @param supplier Value supplier
+   * @param policy   Retry policy
+   * @param handler  Exception handler
+   * @param fallback Fallback value supplier
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return Either the result of the {@link CheckedSupplier} or the fallback
+   *         {@link Supplier}.
+   *
+   * @throws NullPointerException if the handler or fallback parameter are null
+   *         whether it is used or not.
+   */
+  public static < R > R retry(
+    final CheckedSupplier < R > supplier,
+    final RetryPolicy policy,
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback
+  ) {
+    Objects.requireNonNull(handler);
+    Objects.requireNonNull(fallback);
+
+    try {
+      return policy.execute(supplier);
+    } catch ( final RetryException e ) {
+      return reject(handler, fallback, e);
+    }
+  }
+
+  /**
+   * Creates an asynchronous result chain with the given
+   * {@link CheckedSupplier} as the start.
+   *
+   * The supplier and every subsequent step of the chain are run on the given
+   * executor.
+   *
+   * @param sup      Checked value supplier
+   * @param executor Executor on which the chain steps will be run
+   *
+   * @param <R> Supplier result type.
+   *
+   * @return Asynchronous result chain of the type returned by the given
+   *         supplier.
+   *
+   * @throws NullPointerException if the given executor is null.
+   */
+  public static < R > AsyncChain < R > withAsync(
+    final CheckedSupplier < R > sup,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(executor);
+
+    return new AsyncChain <>(
+      CompletableFuture.supplyAsync(() -> with(sup), executor),
+      executor
+    );
+  }
+
+  /**
+   * Creates an asynchronous result chain from a hedged call to the given
+   * {@link CheckedSupplier}, drawing hedge attempts from the shared
+   * {@link RetryBudget}.
+   *
+   * @param sup        Checked value supplier
+   * @param hedgeDelay Time to wait for the first attempt before starting the
+   *                   second
+   * @param executor   Executor on which the attempts and subsequent chain
+   *                   steps will be run
+   *
+   * @param <R> Supplier result type.
+   *
+   * @return Asynchronous result chain of the type returned by the given
+   *         supplier.
+   *
+   * @throws NullPointerException if the given executor is null.
+   *
+   * @see #hedge(CheckedSupplier, Duration, RetryBudget, Executor)
+   */
+  public static < R > AsyncChain < R > hedge(
+    final CheckedSupplier < R > sup,
+    final Duration hedgeDelay,
+    final Executor executor
+  ) {
+    return hedge(sup, hedgeDelay, RetryBudget.shared(), executor);
+  }
+
+  /**
+   * Creates an asynchronous result chain from a hedged call to the given
+   * {@link CheckedSupplier}.
+   *
+   * The supplier is run on the given executor.  If it has not completed once
+   * the hedge delay has passed, a second attempt is started alongside it, and
+   * whichever attempt succeeds first provides the value of the chain; the
+   * other attempt's outcome is ignored.  If the first attempt fails before the
+   * hedge delay, the second is started immediately.  The chain only holds an
+   * exception if every attempt fails: a {@link HedgeException} holding both
+   * failures if both attempts were made, otherwise the single failure.
+   *
+   * Hedging trades a little extra load for a much shorter latency tail, and
+   * is only suitable for idempotent suppliers.  A hedge delay around the
+   * 95th percentile latency of the supplier keeps the extra load to about 5%
+   * of calls.  The second attempt is withdrawn from the given budget like any
+   * retry, and is not made once the budget is exhausted, so that hedging
+   * cannot pile extra load onto a dependency that is already failing.  Each
+   * successful call deposits into the budget.
+   *
+   * The second attempt is handed to the executor from the common
+   * {@link java.util.concurrent.ForkJoinPool}, never from the timer thread,
+   * so an executor which runs rejected or submitted tasks on the calling
+   * thread, such as one using
+   * {@link java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy}, cannot
+   * hold up timeouts elsewhere.  A direct executor, running each task
+   * immediately on the submitting thread, is accepted but defeats the point:
+   * this method then only returns once the first attempt has finished, so
+   * hedging cannot shorten the wait for it.
+   *
+   * @param sup        Checked value supplier
+   * @param hedgeDelay Time to wait for the first attempt before starting the
+   *                   second
+   * @param budget     Budget the second attempt is drawn from
+   * @param executor   Executor on which the attempts and subsequent chain
+   *                   steps will be run
+   *
+   * @param <R> Supplier result type.
+   *
+   * @return Asynchronous result chain of the type returned by the given
+   *         supplier.
+   *
+   * @throws NullPointerException if the given budget or executor is null.
+   */
+  public static < R > AsyncChain < R > hedge(
+    final CheckedSupplier < R > sup,
+    final Duration hedgeDelay,
+    final RetryBudget budget,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(budget);
+    Objects.requireNonNull(executor);
+
+    return AsyncChain.of(
+      Hedge.start(sup, Math.max(0, hedgeDelay.toNanos()), executor, budget, null),
+      executor
+    );
+  }
+
+  /**
+   * Creates an asynchronous result chain from a hedged call to the given
+   * {@link CheckedSupplier}, using the live 95th percentile latency of the
+   * given call site as the hedge delay and drawing hedge attempts from the
+   * shared {@link RetryBudget}.
+   *
+   * @param sup      Checked value supplier
+   * @param site     Call site providing the hedge delay
+   * @param executor Executor on which the attempts and subsequent chain steps
+   *                 will be run
+   *
+   * @param <R> Supplier result type.
+   *
+   * @return Asynchronous result chain of the type returned by the given
+   *         supplier.
+   *
+   * @throws NullPointerException if the given executor is null.
+   *
+   * @see #hedge(CheckedSupplier, CallSite, RetryBudget, Executor)
+   */
+  public static < R > AsyncChain < R > hedge(
+    final CheckedSupplier < R > sup,
+    final CallSite site,
+    final Executor executor
+  ) {
+    return hedge(sup, site, RetryBudget.shared(), executor);
+  }
+
+  /**
+   * Creates an asynchronous result chain from a hedged call to the given
+   * {@link CheckedSupplier}, using the live 95th percentile latency of the
+   * given call site as the hedge delay.
+   *
+   * The call is recorded against the given site, and the latency of every
+   * successful attempt feeds back into the hedge delay.  Until the site has
+   * seen enough attempts to know it's latency, calls are made without a
+   * hedge.
+   *
+   * @param sup      Checked value supplier
+   * @param site     Call site providing the hedge delay
+   * @param budget   Budget the second attempt is drawn from
+   * @param executor Executor on which the attempts and subsequent chain steps
+   *                 will be run
+   *
+   * @param <R> Supplier result type.
+   *
+   * @return Asynchronous result chain of the type returned by the given
+   *         supplier.
+   *
+   * @throws NullPointerException if the given budget or executor is null.
+   *
+   * @see #hedge(CheckedSupplier, Duration, RetryBudget, Executor)
+   * @see CallSite#hedgeDelay()
+   */
+  public static < R > AsyncChain < R > hedge(
+    final CheckedSupplier < R > sup,
+    final CallSite site,
+    final RetryBudget budget,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(budget);
+    Objects.requireNonNull(executor);
+
+    return AsyncChain.of(
+      Hedge.start(sup, site.hedgeNanos(), executor, budget, site),
+      executor
+    );
+  }
+
+  /**
+   * Applies the given function to every element of the given items, in order,
+   * on the calling thread.
+   *
+   * An exception thrown for one element is recorded as that element's outcome
+   * and does not stop the remaining elements from being processed.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element
+   *
+   * @param <T> Input element type.
+   * @param <R> Function result type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   */
+  public static < T, R > BatchResult < R > callAll(
+    final Iterable < ? extends T > items,
+    final CheckedFunction < ? super T, ? extends R > fn
+  ) {
+    return BatchRunner.objects(indexed(items), fn, BatchRunner.Mode.SEQUENTIAL);
+  }
+
+  /**
+   * Applies the given function to every element of the given array, in order,
+   * on the calling thread.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element
+   *
+   * @param <T> Input element type.
+   * @param <R> Function result type.
+   *
+   * @return Per-element outcomes, indexed as the input array.
+   *
+   * @see #callAll(Iterable, CheckedFunction)
+   */
+  public static < T, R > BatchResult < R > callAll(
+    final T[] items,
+    final CheckedFunction < ? super T, ? extends R > fn
+  ) {
+    return BatchRunner.objects(Arrays.asList(items), fn, BatchRunner.Mode.SEQUENTIAL);
+  }
+
+  /**
+   * Applies the given function to every element of the given items in
+   * parallel on the common {@link ForkJoinPool}.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element.  Must be safe to call
+   *              from multiple threads at once.
+   *
+   * @param <T> Input element type.
+   * @param <R> Function result type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAll(Iterable, CheckedFunction)
+   */
+  public static < T, R > BatchResult < R > callAllParallel(
+    final Iterable < ? extends T > items,
+    final CheckedFunction < ? super T, ? extends R > fn
+  ) {
+    return BatchRunner.objects(
+      indexed(items),
+      fn,
+      BatchRunner.Mode.parallel(ForkJoinPool.commonPool())
+    );
+  }
+
+  /**
+   * Applies the given function to every element of the given items in
+   * parallel on the given {@link ForkJoinPool}.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element.  Must be safe to call
+   *              from multiple threads at once.
+   * @param pool  Pool to run the batch on
+   *
+   * @param <T> Input element type.
+   * @param <R> Function result type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAll(Iterable, CheckedFunction)
+   */
+  public static < T, R > BatchResult < R > callAllParallel(
+    final Iterable < ? extends T > items,
+    final CheckedFunction < ? super T, ? extends R > fn,
+    final ForkJoinPool pool
+  ) {
+    return BatchRunner.objects(indexed(items), fn, BatchRunner.Mode.parallel(pool));
+  }
+
+  /**
+   * Applies the given function to every element of the given items with at
+   * most the given number of elements being processed at once.
+   *
+   * The calling thread takes part in processing, so at most
+   * {@code concurrency - 1} tasks are submitted to the given executor.  Tasks
+   * which have not started by the time the calling thread runs out of
+   * elements are not waited for, so this may safely be called from a thread
+   * of the given executor.
+   *
+   * @param items       Input elements
+   * @param fn          Function to apply to each element.  Must be safe to
+   *                    call from multiple threads at once.
+   * @param concurrency Maximum number of elements processed at once
+   * @param executor    Executor providing the additional workers
+   *
+   * @param <T> Input element type.
+   * @param <R> Function result type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @throws IllegalArgumentException if the given concurrency is less than 1.
+   *
+   * @see #callAll(Iterable, CheckedFunction)
+   */
+  public static < T, R > BatchResult < R > callAll(
+    final Iterable < ? extends T > items,
+    final CheckedFunction < ? super T, ? extends R > fn,
+    final int concurrency,
+    final Executor executor
+  ) {
+    if ( concurrency < 1 ) {
+      throw new IllegalArgumentException("concurrency must be at least 1");
+    }
+
+    return BatchRunner.objects(
+      indexed(items),
+      fn,
+      BatchRunner.Mode.bounded(concurrency, executor)
+    );
+  }
+
+  /**
+   * Applies the given {@code int} producing function to every element of the
+   * given items, in order, on the calling thread.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element
+   *
+   * @param <T> Input element type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAll(Iterable, CheckedFunction)
+   */
+  public static < T > IntBatchResult callAllToInt(
+    final Iterable < ? extends T > items,
+    final CheckedToIntFunction < ? super T > fn
+  ) {
+    return BatchRunner.ints(indexed(items), fn, BatchRunner.Mode.SEQUENTIAL);
+  }
+
+  /**
+   * Applies the given {@code int} producing function to every element of the
+   * given items in parallel on the common {@link ForkJoinPool}.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element.  Must be safe to call
+   *              from multiple threads at once.
+   *
+   * @param <T> Input element type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAllParallel(Iterable, CheckedFunction)
+   */
+  public static < T > IntBatchResult callAllToIntParallel(
+    final Iterable < ? extends T > items,
+    final CheckedToIntFunction < ? super T > fn
+  ) {
+    return BatchRunner.ints(
+      indexed(items),
+      fn,
+      BatchRunner.Mode.parallel(ForkJoinPool.commonPool())
+    );
+  }
+
+  /**
+   * Applies the given {@code long} producing function to every element of the
+   * given items, in order, on the calling thread.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element
+   *
+   * @param <T> Input element type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAll(Iterable, CheckedFunction)
+   */
+  public static < T > LongBatchResult callAllToLong(
+    final Iterable < ? extends T > items,
+    final CheckedToLongFunction < ? super T > fn
+  ) {
+    return BatchRunner.longs(indexed(items), fn, BatchRunner.Mode.SEQUENTIAL);
+  }
+
+  /**
+   * Applies the given {@code long} producing function to every element of the
+   * given items in parallel on the common {@link ForkJoinPool}.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element.  Must be safe to call
+   *              from multiple threads at once.
+   *
+   * @param <T> Input element type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAllParallel(Iterable, CheckedFunction)
+   */
+  public static < T > LongBatchResult callAllToLongParallel(
+    final Iterable < ? extends T > items,
+    final CheckedToLongFunction < ? super T > fn
+  ) {
+    return BatchRunner.longs(
+      indexed(items),
+      fn,
+      BatchRunner.Mode.parallel(ForkJoinPool.commonPool())
+    );
+  }
+
+  /**
+   * Applies the given {@code double} producing function to every element of the
+   * given items, in order, on the calling thread.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element
+   *
+   * @param <T> Input element type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAll(Iterable, CheckedFunction)
+   */
+  public static < T > DoubleBatchResult callAllToDouble(
+    final Iterable < ? extends T > items,
+    final CheckedToDoubleFunction < ? super T > fn
+  ) {
+    return BatchRunner.doubles(indexed(items), fn, BatchRunner.Mode.SEQUENTIAL);
+  }
+
+  /**
+   * Applies the given {@code double} producing function to every element of the
+   * given items in parallel on the common {@link ForkJoinPool}.
+   *
+   * @param items Input elements
+   * @param fn    Function to apply to each element.  Must be safe to call
+   *              from multiple threads at once.
+   *
+   * @param <T> Input element type.
+   *
+   * @return Per-element outcomes, indexed in iteration order.
+   *
+   * @see #callAllParallel(Iterable, CheckedFunction)
+   */
+  public static < T > DoubleBatchResult callAllToDoubleParallel(
+    final Iterable < ? extends T > items,
+    final CheckedToDoubleFunction < ? super T > fn
+  ) {
+    return BatchRunner.doubles(
+      indexed(items),
+      fn,
+      BatchRunner.Mode.parallel(ForkJoinPool.commonPool())
+    );
+  }
+
+  /**
+   * Creates a primitive {@code int} result chain with the given
+   * {@link CheckedIntSupplier} as the start.
+   *
+   * @param sup Checked int supplier
+   *
+   * @return Result Chain of the value returned by the given supplier.
+   */
+  public static IntChain withInt( final CheckedIntSupplier sup )
+  {
+    try {
+      return new IntChain(sup.getAsInt(), true, null, null);
+    } catch ( final Exception e ) {
+      Flight.caught(null, e);
+      return new IntChain(0, false, null, e);
+    }
+  }
+
+  /**
+   * Creates a primitive {@code long} result chain with the given
+   * {@link CheckedLongSupplier} as the start.
+   *
+   * @param sup Checked long supplier
+   *
+   * @return Result Chain of the value returned by the given supplier.
+   */
+  public static LongChain withLong( final CheckedLongSupplier sup )
+  {
+    try {
+      return new LongChain(sup.getAsLong(), true, null, null);
+    } catch ( final Exception e ) {
+      Flight.caught(null, e);
+      return new LongChain(0L, false, null, e);
+    }
+  }
+
+  /**
+   * Creates a primitive {@code double} result chain with the given
+   * {@link CheckedDoubleSupplier} as the start.
+   *
+   * @param sup Checked double supplier
+   *
+   * @return Result Chain of the value returned by the given supplier.
+   */
+  public static DoubleChain withDouble( final CheckedDoubleSupplier sup )
+  {
+    try {
+      return new DoubleChain(sup.getAsDouble(), true, null, null);
+    } catch ( final Exception e ) {
+      Flight.caught(null, e);
+      return new DoubleChain(0D, false, null, e);
+    }
+  }
+
+  /**
+   * Returns the call site with the given name, creating it on first use.
+   *
+   * Calls made through the returned site have their successes, failures and
+   * fallbacks counted under that name.
+   *
+   * @param name Call site name
+   *
+   * @return The call site registered under the given name.
+   *
+   * @throws NullPointerException if the given name is null.
+   */
+  public static CallSite site( final String name )
+  {
+    return CallSite.named(name);
+  }
+
+  /**
+   * @return A read-only view of every call site created so far.
+   */
+  public static Collection < CallSite > sites()
+  {
+    return CallSite.all();
+  }
+
+  /**
+   * Turns the optional diagnostics of this library on or off:
+   * {@link CallSite} latency histograms and the {@link StepHistory} of
+   * {@link Chain} steps.
+   *
+   * Flight Recorder events (on Java 11 and later) are not affected by this
+   * switch; they are emitted whenever a recording has them enabled, and cost
+   * a single enabled check otherwise.
+   *
+   * While diagnostics are off, the instrumented paths compile to the same
+   * code as if they were not instrumented at all; not even a volatile read is
+   * made per call.  Switching forces that code to be recompiled, so this is
+   * meant to be flipped rarely, for example at startup or while diagnosing
+   * an incident.  Diagnostics are off unless the
+   * {@code io.vulpine.lib.catcher.instrumentation} system property is set to
+   * {@code true}.
+   *
+   * @param on whether diagnostics should be enabled
+   */
+  public static void instrument( final boolean on )
+  {
+    Instrumentation.enabled(on);
+  }
+
+  /**
+   * @return whether diagnostics are currently enabled.
+   */
+  public static boolean instrumented()
+  {
+    return Instrumentation.enabled();
+  }
+
+  /**
+   * Sets how exceptions raised by this library itself are constructed.
+   *
+   * The initial mode may also be set with the
+   * {@code io.vulpine.lib.catcher.exceptionMode} system property.
+   *
+   * @param mode Exception construction mode
+   *
+   * @see ExceptionMode
+   */
+  public static void exceptionMode( final ExceptionMode mode )
+  {
+    Exceptions.mode(Objects.requireNonNull(mode));
+  }
+
+  /**
+   * @return The current library exception construction mode.
+   */
+  public static ExceptionMode exceptionMode()
+  {
+    return Exceptions.mode();
+  }
+
+  /**
+   * Passes a caught exception to the given fallback function.
+   */
+  static < R > R recover(
+    final Function < Exception, R > fallback,
+    final Exception e
+  ) {
+    Flight.caught(null, e);
+    Flight.fallback(null, e);
+    return fallback.apply(e);
+  }
+
+  /**
+   * Passes a caught exception to the given handler, then returns the result
+   * of the given fallback.
+   */
+  static < R > R recover(
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback,
+    final Exception e
+  ) {
+    handled(handler, e);
+    Flight.fallback(null, e);
+    return fallback.get();
+  }
+
+  /**
+   * Passes a caught exception to the given handler.
+   */
+  static void handled(
+    final Consumer < Exception > handler,
+    final Exception e
+  ) {
+    Flight.caught(null, e);
+    Flight.handle(null, handler, e);
+  }
+
+  /**
+   * Passes an exception raised by the library itself, such as a rejection or
+   * a retry policy giving up, to the given fallback function.  Nothing was
+   * caught from the call, so only the fallback is recorded.
+   */
+  static < R > R reject(
+    final Function < Exception, R > fallback,
+    final Exception e
+  ) {
+    Flight.fallback(null, e);
+    return fallback.apply(e);
+  }
+
+  /**
+   * Passes an exception raised by the library itself to the given handler,
+   * then returns the result of the given fallback.
+   */
+  static < R > R reject(
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback,
+    final Exception e
+  ) {
+    Flight.handle(null, handler, e);
+    Flight.fallback(null, e);
+    return fallback.get();
+  }
+
+  /**
+   * Returns the given items as a random access list, copying them only if
+   * they are not already one.
+   */
+  private static < T > List < ? extends T > indexed(
+    final Iterable < ? extends T > items
+  ) {
+    if ( items instanceof List && items instanceof RandomAccess ) {
+      return (List < ? extends T >) items;
+    }
+
+    final List < T > out = items instanceof Collection
+      ? new ArrayList <>(( (Collection < ? extends T >) items ).size())
+      : new ArrayList <>();
+
+    for ( final T item : items ) {
+      out.add(item);
+    }
+
+    return out;
+  }
+
+  /**
+   * Schedules an interrupt of the current thread on the shared timer.
+   */
+  private static TimerWheel.Timeout interruptAfter( final Duration timeout )
+  {
+    final Thread caller = Thread.currentThread();
+    return TimerWheel.shared().schedule(caller::interrupt, timeout.toNanos());
+  }
+
+  /**
+   * Settles a timed call, cancelling it's timeout if still pending.
+   *
+   * @param deadline    Timeout scheduled for the call
+   * @param interrupted Whether the calling thread was already interrupted
+   *                    when the call was made
+   * @param timeout     Configured timeout, used for reporting
+   * @param failure     Exception thrown by the call, if any
+   *
+   * @return A {@link TimeoutException} if the timeout fired, otherwise the
+   *         given failure.
+   */
+  private static Exception expired(
+    final TimerWheel.Timeout deadline,
+    final boolean interrupted,
+    final Duration timeout,
+    final Exception failure
+  ) {
+    if ( deadline.cancel() ) {
+      return failure;
+    }
+
+    // The timer has interrupted, or is about to interrupt, this thread.  Wait
+    // for it to finish and clear the flag so it does not leak to the caller,
+    // unless the caller had been interrupted already.
+    deadline.awaitFired();
+
+    if ( !interrupted ) {
+      Thread.interrupted();
+    }
+
+    return Exceptions.timeout(
+      "Call did not complete within " + timeout,
+      failure
+    );
   }
 }
@@ -0,0 +1,151 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Collector} implementations applying a checked function to each
+ * stream element and separating the results from the exceptions thrown in a
+ * single pass.
+ *
+ * <pre>{@code
+ * Partition < List < Integer >, List < Exception > > parsed = lines
+ *   .parallelStream()
+ *   .collect(CatcherCollectors.tryMapping(Integer::parseInt));
+ * }</pre>
+ *
+ * The collectors are safe for parallel streams: each split accumulates into
+ * it's own pair of containers, which are merged with the downstream
+ * collectors' combiners.
+ */
+public final class CatcherCollectors
+{
+  private CatcherCollectors() {}
+
+  /**
+   * Returns a collector applying the given function to each element,
+   * collecting the results and the thrown exceptions into separate lists.
+   *
+   * @param fn Function to apply to each element
+   *
+   * @param <T> Stream element type.
+   * @param <R> Function result type.
+   *
+   * @return A collector producing the results and failures, each in encounter
+   *         order.
+   */
+  public static < T, R > Collector < T, ?, Partition < List < R >, List < Exception > > >
+  tryMapping( final CheckedFunction < ? super T, ? extends R > fn )
+  {
+    return tryMapping(fn, Collectors.toList(), Collectors.toList());
+  }
+
+  /**
+   * Returns a collector applying the given function to each element, passing
+   * the results and the thrown exceptions to separate downstream collectors.
+   *
+   * Only exceptions thrown by the given function are caught; exceptions
+   * thrown by the downstream collectors propagate as usual.
+   *
+   * @param fn        Function to apply to each element
+   * @param successes Collector receiving the function results
+   * @param failures  Collector receiving the thrown exceptions
+   *
+   * @param <T>  Stream element type.
+   * @param <R>  Function result type.
+   * @param <SA> Intermediate accumulation type of the success collector.
+   * @param <SD> Result type of the success collector.
+   * @param <FA> Intermediate accumulation type of the failure collector.
+   * @param <FD> Result type of the failure collector.
+   *
+   * @return A collector producing the results of both downstream collectors.
+   */
+  public static < T, R, SA, SD, FA, FD >
+  Collector < T, ?, Partition < SD, FD > > tryMapping(
+    final CheckedFunction < ? super T, ? extends R > fn,
+    final Collector < ? super R, SA, SD > successes,
+    final Collector < ? super Exception, FA, FD > failures
+  ) {
+    final Supplier < SA > successSupplier = successes.supplier();
+    final Supplier < FA > failureSupplier = failures.supplier();
+    final BiConsumer < SA, ? super R > successAccumulator = successes.accumulator();
+    final BiConsumer < FA, ? super Exception > failureAccumulator = failures.accumulator();
+    final BinaryOperator < SA > successCombiner = successes.combiner();
+    final BinaryOperator < FA > failureCombiner = failures.combiner();
+    final Function < SA, SD > successFinisher = successes.finisher();
+    final Function < FA, FD > failureFinisher = failures.finisher();
+
+    return Collector.of(
+      () -> new Accumulator <>(successSupplier.get(), failureSupplier.get()),
+      ( a, t ) -> {
+        final R value;
+
+        try {
+          value = fn.apply(t);
+        } catch ( final Exception e ) {
+          Flight.caught(null, e);
+          failureAccumulator.accept(a.failures, e);
+          return;
+        }
+
+        successAccumulator.accept(a.successes, value);
+      },
+      ( l, r ) -> new Accumulator <>(
+        successCombiner.apply(l.successes, r.successes),
+        failureCombiner.apply(l.failures, r.failures)
+      ),
+      a -> new Partition <>(
+        successFinisher.apply(a.successes),
+        failureFinisher.apply(a.failures)
+      ),
+      characteristics(successes, failures)
+    );
+  }
+
+  /**
+   * The combined collector is unordered only if both downstream collectors
+   * are.  It is never concurrent, as the pair of containers is not.
+   */
+  private static Collector.Characteristics[] characteristics(
+    final Collector < ?, ?, ? > a,
+    final Collector < ?, ?, ? > b
+  ) {
+    final Set < Collector.Characteristics > out = EnumSet.noneOf(
+      Collector.Characteristics.class
+    );
+
+    if (
+      a.characteristics().contains(Collector.Characteristics.UNORDERED)
+        && b.characteristics().contains(Collector.Characteristics.UNORDERED)
+    ) {
+      out.add(Collector.Characteristics.UNORDERED);
+    }
+
+    return out.toArray(new Collector.Characteristics[0]);
+  }
+
+  /**
+   * Mutable pair of downstream containers for one split of the stream.
+   */
+  private static final class Accumulator < S, F >
+  {
+    private final S successes;
+
+    private final F failures;
+
+    Accumulator( final S successes, final F failures )
+    {
+      this.successes = successes;
+      this.failures = failures;
+    }
+  }
+}
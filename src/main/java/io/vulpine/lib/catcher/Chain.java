@@ -1,5 +1,8 @@
 package io.vulpine.lib.catcher;
 
+import io.vulpine.lib.catcher.function.CheckedToDoubleFunction;
+import io.vulpine.lib.catcher.function.CheckedToIntFunction;
+import io.vulpine.lib.catcher.function.CheckedToLongFunction;
 import io.vulpine.lib.jcfi.CheckedFunction;
 
 import java.util.Optional;
@@ -8,6 +11,14 @@ import java.util.function.Supplier;
 
 public final class Chain < T >
 {
+  /**
+   * Shared empty Chain with no handler and no pending exception.
+   *
+   * Chains are immutable, so every empty result without a pending exception
+   * can safely share this single instance.
+   */
+  private static final Chain < ? > EMPTY = new Chain <>(null, null, null);
+
   private final T value;
 
   private final Consumer < ? super Exception > handler;
@@ -25,6 +36,34 @@ public final class Chain < T >
     this.exception = exception;
   }
 
+  /**
+   * Returns the shared empty Chain.
+   *
+   * @param <T> Type of the (absent) value.
+   *
+   * @return An empty Chain with no handler and no pending exception.
+   */
+  @SuppressWarnings("unchecked")
+  public static < T > Chain < T > emptyChain()
+  {
+    return (Chain < T >) EMPTY;
+  }
+
+  /**
+   * Starts a reusable pipeline template which may be defined once and run
+   * against many inputs.
+   *
+   * @param <I> Template input type.
+   *
+   * @return An empty template which passes it's input through unchanged.
+   *
+   * @see LazyChain#start()
+   */
+  public static < I > LazyChain < I, I > template()
+  {
+    return LazyChain.start();
+  }
+
   /**
    * Shows whether or not the current Chain value is empty.
    *
@@ -59,25 +98,48 @@ public final class Chain < T >
     return Optional.ofNullable(value);
   }
 
+  /**
+   * Converts this Chain to a {@link Result}.
+   *
+   * @return A Success if a value is present, a Failure if an unhandled
+   *         exception is held, otherwise an Empty result.
+   */
+  public Result < T > toResult()
+  {
+    if ( value != null ) {
+      return Result.success(value);
+    }
+
+    return exception == null ? Result.empty() : Result.failure(exception);
+  }
+
   /**
    * Gets the currently contained value.
    *
    * @return The value currently contained in this Chain
    *
-   * @throws RuntimeException thrown if there is no value present.  To prevent
-   *   this, consider checking against the {@link #empty()} or
+   * @throws EmptyResultException thrown if there is no value present.  To
+   *   prevent this, consider checking against the {@link #empty()} or
    *   {@link #present()} methods to verify that this chain currently contains
    *   an available value.
    */
   public T get() throws RuntimeException
   {
     if ( value == null ) {
-      throw new RuntimeException("Get attempted on an empty Catcher result.");
+      throw Exceptions.empty();
     }
 
     return value;
   }
 
+  /**
+   * @return The unhandled exception held by this chain, if any.
+   */
+  Exception exception()
+  {
+    return exception;
+  }
+
   /**
    * Returns the current value or the given alternative if no value is present.
    *
@@ -132,27 +194,149 @@ public final class Chain < T >
    *
    * @return A new Chain of the return type of the given function.
    */
+  @SuppressWarnings("unchecked")
   public < R > Chain < R > apply( final CheckedFunction < T, R > step )
   {
-    // No value, just pass through
+    // No value, just pass through.  An empty Chain holds nothing of type T so
+    // it can be reused as-is for any R.
     if ( value == null ) {
-      return new Chain <>(null, handler, exception);
+      return (Chain < R >) this;
     }
 
+    final R next;
+
     try {
+      next = step.apply(value);
+    } catch ( final Exception e ) {
+      if ( Instrumentation.enabled() ) {
+        StepHistory.failed(step, e);
+      }
+      return fail(e);
+    }
 
-      return new Chain <>(step.apply(value), handler, null);
+    if ( Instrumentation.enabled() ) {
+      StepHistory.applied(step, next);
+    }
 
-    } catch ( final Exception e ) {
+    return next == null ? emptyChain() : new Chain <>(next, handler, null);
+  }
 
-      if ( handler != null ) {
+  /**
+   * Applies the current value to the given method, which reports failure by
+   * returning a {@link Result} rather than by throwing.
+   *
+   * A returned {@link Result.Failure} is treated exactly as if it's exception
+   * had been thrown: it is passed to the current handler, or held by the
+   * returned chain if there is none.  As nothing is thrown, returning a
+   * failure built around a shared {@link StacklessException} makes routine
+   * failures such as cache misses nearly free.  Steps of either kind may be
+   * freely mixed within a chain.  A step returning null rather than a Result
+   * empties the chain, as with {@link #apply(CheckedFunction)}.
+   *
+   * @param step function used to transform the current value (if any)
+   *
+   * @param <R> Value type of the Result returned from the given method.
+   *
+   * @return A new Chain of the value type of the returned Result.
+   */
+  @SuppressWarnings("unchecked")
+  public < R > Chain < R > applyResult(
+    final CheckedFunction < T, ? extends Result < ? extends R > > step
+  ) {
+    if ( value == null ) {
+      return (Chain < R >) this;
+    }
 
-        handler.accept(e);
-        return new Chain <>(null, null, null);
+    final Result < ? extends R > next;
 
+    try {
+      next = step.apply(value);
+    } catch ( final Exception e ) {
+      if ( Instrumentation.enabled() ) {
+        StepHistory.failed(step, e);
       }
+      return fail(e);
+    }
 
-      return new Chain <>(null, null, e);
+    if ( Instrumentation.enabled() ) {
+      StepHistory.settled(step, next);
+    }
+
+    return settle(next);
+  }
+
+  /**
+   * Applies the current value to the given method, producing a primitive
+   * {@code int} chain.
+   *
+   * @param step function used to transform the current value (if any)
+   *
+   * @return A new IntChain containing the result of the given function.
+   */
+  public IntChain applyToInt( final CheckedToIntFunction < T > step )
+  {
+    if ( value == null ) {
+      return exception == null
+        ? IntChain.emptyIntChain()
+        : new IntChain(0, false, null, exception);
+    }
+
+    try {
+      return new IntChain(step.applyAsInt(value), true, handler, null);
+    } catch ( final Exception e ) {
+      return consumed(handler, e)
+        ? IntChain.emptyIntChain()
+        : new IntChain(0, false, null, e);
+    }
+  }
+
+  /**
+   * Applies the current value to the given method, producing a primitive
+   * {@code long} chain.
+   *
+   * @param step function used to transform the current value (if any)
+   *
+   * @return A new LongChain containing the result of the given function.
+   */
+  public LongChain applyToLong( final CheckedToLongFunction < T > step )
+  {
+    if ( value == null ) {
+      return exception == null
+        ? LongChain.emptyLongChain()
+        : new LongChain(0L, false, null, exception);
+    }
+
+    try {
+      return new LongChain(step.applyAsLong(value), true, handler, null);
+    } catch ( final Exception e ) {
+      return consumed(handler, e)
+        ? LongChain.emptyLongChain()
+        : new LongChain(0L, false, null, e);
+    }
+  }
+
+  /**
+   * Applies the current value to the given method, producing a primitive
+   * {@code double} chain.
+   *
+   * @param step function used to transform the current value (if any)
+   *
+   * @return A new DoubleChain containing the result of the given function.
+   */
+  public DoubleChain applyToDouble( final CheckedToDoubleFunction < T > step )
+  {
+    if ( value == null ) {
+      return exception == null
+        ? DoubleChain.emptyDoubleChain()
+        : new DoubleChain(0D, false, null, exception);
+    }
+
+    try {
+      return new DoubleChain(step.applyAsDouble(value), true, handler, null);
+    } catch ( final Exception e ) {
+      return consumed(handler, e)
+        ? DoubleChain.emptyDoubleChain()
+        : new DoubleChain(0D, false, null, e);
     }
   }
 
@@ -168,14 +352,93 @@ public final class Chain < T >
    * @param handler a {@link Consumer} for exception types.
    *
    * @return The current Chain with no modification to it's value.
+   *
+   * @see HandlerTable
    */
   public Chain < T > handle( final Consumer < Exception > handler )
   {
     if (exception != null) {
-      handler.accept(exception);
-      return new Chain<>(null, null, null);
+      Flight.handle(null, handler, exception);
+      return emptyChain();
+    }
+
+    // Nothing left for the handler to see.
+    if ( value == null ) {
+      return emptyChain();
+    }
+
+    if ( handler == this.handler ) {
+      return this;
     }
 
     return new Chain <>(value, handler, null);
   }
+
+  /**
+   * Continues this chain with the given result.
+   *
+   * @param result Result returned by a step.
+   *
+   * @param <R> Result value type.
+   *
+   * @return The chain continuing with the given result.
+   */
+  private < R > Chain < R > settle( final Result < ? extends R > result )
+  {
+    if ( result == null ) {
+      return emptyChain();
+    }
+
+    if ( result.isSuccess() ) {
+      final R next = result.get();
+      return next == null ? emptyChain() : new Chain <>(next, handler, null);
+    }
+
+    if ( result.isFailure() ) {
+      return fail(( (Result.Failure < ? extends R >) result ).exception());
+    }
+
+    return emptyChain();
+  }
+
+  /**
+   * Failure path for {@link #apply(CheckedFunction)} and
+   * {@link #applyResult(CheckedFunction)}.
+   *
+   * Kept out of line so that the success path of apply stays small enough to
+   * be inlined into the caller, allowing C2 to scalar replace the intermediate
+   * Chain instances of a fully successful pipeline.
+   *
+   * @param e exception thrown by the step function.
+   *
+   * @param <R> Type of the (absent) value.
+   *
+   * @return An empty Chain, carrying the exception if no handler consumed it.
+   */
+  private < R > Chain < R > fail( final Exception e )
+  {
+    return consumed(handler, e) ? emptyChain() : new Chain <>(null, null, e);
+  }
+
+  /**
+   * Reports an exception thrown by a step and passes it to the given handler,
+   * if there is one.  Shared by every chain's failure path.
+   *
+   * @param handler Handler of the chain the step was applied to, or null.
+   * @param e       exception thrown by the step function.
+   *
+   * @return Whether the exception was consumed by the handler, rather than
+   *         left for the chain to carry.
+   */
+  static boolean consumed( final Consumer < ? super Exception > handler, final Exception e )
+  {
+    Flight.caught(null, e);
+
+    if ( handler == null ) {
+      return false;
+    }
+
+    Flight.handle(null, handler, e);
+    return true;
+  }
 }
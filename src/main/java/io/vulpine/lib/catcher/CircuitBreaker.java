@@ -0,0 +1,381 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Guards calls to a dependency, rejecting them outright while the dependency
+ * is failing.
+ *
+ * The breaker starts {@link State#CLOSED}, passing every call through while
+ * tracking outcomes over a sliding time window.  Once the failure rate in that
+ * window reaches the configured threshold the breaker trips to
+ * {@link State#OPEN}, and calls go straight to their fallback without the
+ * supplier being invoked.  After the open wait has passed, a single probe call
+ * is let through in the {@link State#HALF_OPEN} state; its outcome either
+ * closes the breaker again or re-opens it.  A probe which has not returned
+ * within the open wait is given up on, and another probe is let through.
+ *
+ * All state transitions are made with compare-and-set; no locks are taken.
+ * In the closed state a successful call costs one volatile read, one clock
+ * read and one {@link LongAdder} increment, so that many threads recording at
+ * once do not contend on a single cache line.
+ */
+public final class CircuitBreaker
+{
+  public enum State
+  {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private static final int CLOSED = 0;
+
+  private static final int OPEN = 1;
+
+  private static final int HALF_OPEN = 2;
+
+  private static final Phase CLOSED_PHASE = new Phase(CLOSED, 0);
+
+  private static final AtomicReferenceFieldUpdater < CircuitBreaker, Phase > PHASE =
+    AtomicReferenceFieldUpdater.newUpdater(CircuitBreaker.class, Phase.class, "phase");
+
+  private static final int REJECT = -1;
+
+  private static final int PASS = 0;
+
+  private static final int PROBE = 1;
+
+  private static final int BUCKETS = 10;
+
+  private final double failureRate;
+
+  private final int minimumCalls;
+
+  private final long bucketNanos;
+
+  private final long openNanos;
+
+  private final Bucket[] buckets = new Bucket[BUCKETS];
+
+  private final CircuitOpenException rejection;
+
+  /**
+   * Current state, together with the time it was entered.  Both are swapped
+   * in one compare-and-set so that a transition can never be seen with the
+   * time of an earlier one.
+   */
+  private volatile Phase phase = CLOSED_PHASE;
+
+  /**
+   * @param failureRate  Failure rate, between 0 and 1, at or above which the
+   *                     breaker trips.
+   * @param minimumCalls Minimum number of calls in the window before the
+   *                     failure rate is considered.
+   * @param window       Length of the sliding window over which call outcomes
+   *                     are counted.
+   * @param openWait     Time the breaker stays open before letting a probe
+   *                     call through.
+   *
+   * @throws IllegalArgumentException if the failure rate is not within
+   *         (0, 1], or the minimum calls is less than 1.
+   */
+  public CircuitBreaker(
+    final double failureRate,
+    final int minimumCalls,
+    final Duration window,
+    final Duration openWait
+  )
+  {
+    if ( !( failureRate > 0 && failureRate <= 1 ) ) {
+      throw new IllegalArgumentException("failureRate must be within (0, 1]");
+    }
+
+    if ( minimumCalls < 1 ) {
+      throw new IllegalArgumentException("minimumCalls must be at least 1");
+    }
+
+    this.failureRate = failureRate;
+    this.minimumCalls = minimumCalls;
+    this.bucketNanos = Math.max(1, window.toNanos() / BUCKETS);
+    this.openNanos = openWait.toNanos();
+    this.rejection = new CircuitOpenException("Circuit breaker is open");
+
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      buckets[i] = new Bucket();
+    }
+  }
+
+  /**
+   * @return The current state of this breaker.
+   */
+  public State state()
+  {
+    switch ( phase.state ) {
+      case OPEN:
+        return State.OPEN;
+      case HALF_OPEN:
+        return State.HALF_OPEN;
+      default:
+        return State.CLOSED;
+    }
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the fallback {@link Function}.
+   *
+   * If the breaker is not letting calls through, the supplier is not invoked
+   * and the fallback receives a {@link CircuitOpenException}.
+   *
+   * @param func     Supplier to attempt
+   * @param fallback Error Handler/Default value supplier
+   *
+   * @param <R> Return type of the given Supplier
+   *
+   * @return Either the result of the supplier or the fallback function.
+   *
+   * @throws NullPointerException if the fallback parameter is null whether it
+   *                              is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Function)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > func,
+    final Function < Exception, R > fallback
+  ) {
+    Objects.requireNonNull(fallback);
+
+    final int permit = acquire();
+
+    if ( permit == REJECT ) {
+      return Catcher.reject(fallback, rejection);
+    }
+
+    final R out;
+
+    try {
+      out = func.get();
+    } catch ( final Exception e ) {
+      onFailure(permit);
+      return Catcher.recover(fallback, e);
+    } catch ( final Error e ) {
+      onFailure(permit);
+      throw e;
+    }
+
+    onSuccess(permit);
+    return out;
+  }
+
+  /**
+   * Returns either the result of the given {@link CheckedSupplier}, or the
+   * result of the given fallback {@link Supplier}.
+   *
+   * If an exception is thrown by the {@link CheckedSupplier}, or the breaker
+   * is not letting calls through, the given handler will be called with the
+   * thrown {@link Exception} or a {@link CircuitOpenException} respectively.
+   *
+   * @param supplier Value supplier
+   * @param handler  Exception handler
+   * @param fallback Fallback value supplier
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return Either the result of the {@link CheckedSupplier} or the fallback
+   *         {@link Supplier}.
+   *
+   * @throws NullPointerException if the handler or fallback parameter are null
+   *         whether it is used or not.
+   *
+   * @see Catcher#call(CheckedSupplier, Consumer, Supplier)
+   */
+  public < R > R call(
+    final CheckedSupplier < R > supplier,
+    final Consumer < Exception > handler,
+    final Supplier < R > fallback
+  ) {
+    Objects.requireNonNull(handler);
+    Objects.requireNonNull(fallback);
+
+    final int permit = acquire();
+
+    if ( permit == REJECT ) {
+      return Catcher.reject(handler, fallback, rejection);
+    }
+
+    final R out;
+
+    try {
+      out = supplier.get();
+    } catch ( final Exception e ) {
+      onFailure(permit);
+      return Catcher.recover(handler, fallback, e);
+    } catch ( final Error e ) {
+      onFailure(permit);
+      throw e;
+    }
+
+    onSuccess(permit);
+    return out;
+  }
+
+  /**
+   * Decides whether a call may go through.
+   *
+   * @return {@link #REJECT} if the call should go straight to it's fallback,
+   *         {@link #PROBE} if the call is the half-open probe, otherwise
+   *         {@link #PASS}.
+   */
+  private int acquire()
+  {
+    final Phase current = phase;
+
+    return current == CLOSED_PHASE
+      ? PASS
+      : tryProbe(current) ? PROBE : REJECT;
+  }
+
+  /**
+   * Attempts to move to half-open, either from open once the open wait has
+   * passed, or from half-open once the previous probe has been out for as
+   * long without returning.
+   *
+   * @return true if the current thread won the transition and should make the
+   *         probe call.
+   */
+  private boolean tryProbe( final Phase current )
+  {
+    final long now = System.nanoTime();
+
+    return now - current.since >= openNanos
+      && PHASE.compareAndSet(this, current, new Phase(HALF_OPEN, now));
+  }
+
+  private void onSuccess( final int permit )
+  {
+    if ( permit == PROBE ) {
+      final Phase current = phase;
+
+      if ( current.state == HALF_OPEN ) {
+        reset();
+        PHASE.compareAndSet(this, current, CLOSED_PHASE);
+      }
+      return;
+    }
+
+    bucket().successes.increment();
+  }
+
+  private void onFailure( final int permit )
+  {
+    if ( permit == PROBE ) {
+      trip(HALF_OPEN);
+      return;
+    }
+
+    bucket().failures.increment();
+
+    if ( tripping() ) {
+      trip(CLOSED);
+    }
+  }
+
+  /**
+   * Opens the breaker if it is still in the given state.  Failures from calls
+   * admitted before the breaker opened find it already open and leave the
+   * open time alone, so they cannot hold back the next probe.
+   */
+  private void trip( final int from )
+  {
+    final Phase current = phase;
+
+    if ( current.state == from ) {
+      PHASE.compareAndSet(this, current, new Phase(OPEN, System.nanoTime()));
+    }
+  }
+
+  /**
+   * @return The bucket for the current time, recycling it if it last held an
+   *         older time slice.
+   */
+  private Bucket bucket()
+  {
+    final long epoch = System.nanoTime() / bucketNanos;
+    final Bucket b = buckets[(int) Math.floorMod(epoch, (long) BUCKETS)];
+    final long seen = b.epoch;
+
+    // Counts racing with the recycle of a bucket may be lost; the window is a
+    // statistical view, so this is accepted in exchange for staying lock free.
+    if ( seen != epoch && Bucket.EPOCH.compareAndSet(b, seen, epoch) ) {
+      b.successes.reset();
+      b.failures.reset();
+    }
+
+    return b;
+  }
+
+  /**
+   * @return whether the failure rate over the current window has reached the
+   *         configured threshold.
+   */
+  private boolean tripping()
+  {
+    final long now = System.nanoTime() / bucketNanos;
+
+    long success = 0;
+    long failure = 0;
+
+    for ( final Bucket b : buckets ) {
+      if ( b.epoch > now - BUCKETS ) {
+        success += b.successes.sum();
+        failure += b.failures.sum();
+      }
+    }
+
+    final long total = success + failure;
+
+    return total >= minimumCalls && failure >= failureRate * total;
+  }
+
+  private void reset()
+  {
+    for ( final Bucket b : buckets ) {
+      b.epoch = Long.MIN_VALUE;
+    }
+  }
+
+  private static final class Phase
+  {
+    final int state;
+
+    final long since;
+
+    Phase( final int state, final long since )
+    {
+      this.state = state;
+      this.since = since;
+    }
+  }
+
+  private static final class Bucket
+  {
+    static final AtomicLongFieldUpdater < Bucket > EPOCH =
+      AtomicLongFieldUpdater.newUpdater(Bucket.class, "epoch");
+
+    final LongAdder successes = new LongAdder();
+
+    final LongAdder failures = new LongAdder();
+
+    volatile long epoch = Long.MIN_VALUE;
+  }
+}
@@ -0,0 +1,19 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Exception passed to fallbacks when a call is rejected by an open
+ * {@link CircuitBreaker}.
+ *
+ * Rejections are expected to happen in bulk while a dependency is failing, so
+ * this exception has no stack trace and a single instance is shared by each
+ * breaker.
+ */
+public class CircuitOpenException extends Exception
+{
+  private static final long serialVersionUID = 1L;
+
+  public CircuitOpenException( final String message )
+  {
+    super(message, null, false, false);
+  }
+}
@@ -0,0 +1,58 @@
+package io.vulpine.lib.catcher;
+
+import java.util.stream.DoubleStream;
+
+/**
+ * Per-element outcomes of a bulk call producing {@code double} results.
+ *
+ * Primitive counterpart of {@link BatchResult}, holding results in a single
+ * {@code double[]} so that no result is boxed.
+ */
+public final class DoubleBatchResult extends AbstractBatchResult
+{
+  private final double[] values;
+
+  DoubleBatchResult(
+    final double[] values,
+    final long[] failed,
+    final int[] failureIndexes,
+    final Exception[] failures
+  )
+  {
+    super(values.length, failed, failureIndexes, failures);
+    this.values = values;
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The result for the element at the given index, or 0 if
+   *         processing it failed.
+   */
+  public double value( final int index )
+  {
+    return values[index];
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The outcome of the element at the given index as a Chain.
+   */
+  public DoubleChain chain( final int index )
+  {
+    final Exception e = failure(index);
+
+    return e == null
+      ? new DoubleChain(values[index], true, null, null)
+      : new DoubleChain(0D, false, null, e);
+  }
+
+  /**
+   * @return Stream of the successful results, in element index order.
+   */
+  public DoubleStream values()
+  {
+    return successIndexes().mapToDouble(this::value);
+  }
+}
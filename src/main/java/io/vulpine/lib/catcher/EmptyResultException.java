@@ -0,0 +1,45 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Thrown when a value is requested from a chain or result which holds none.
+ *
+ * Whether instances of this exception have a stack trace, or are shared, is
+ * controlled by {@link Catcher#exceptionMode(ExceptionMode)}.
+ */
+public class EmptyResultException extends RuntimeException
+{
+  private static final long serialVersionUID = 1L;
+
+  public EmptyResultException( final String message )
+  {
+    super(message);
+  }
+
+  public EmptyResultException( final String message, final Throwable cause )
+  {
+    super(message, cause);
+  }
+
+  EmptyResultException(
+    final String message,
+    final Throwable cause,
+    final boolean writableStackTrace
+  )
+  {
+    super(message, cause, true, writableStackTrace);
+  }
+
+  /**
+   * Used for instances shared between callers, which must have suppression
+   * disabled so that no caller can change what another caller sees.
+   */
+  EmptyResultException(
+    final String message,
+    final Throwable cause,
+    final boolean enableSuppression,
+    final boolean writableStackTrace
+  )
+  {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
+}
@@ -0,0 +1,36 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Controls how exceptions raised by this library itself are constructed.
+ *
+ * Filling in a stack trace is by far the most expensive part of creating an
+ * exception.  Where library exceptions are expected and caught as part of
+ * normal control flow, such as calling {@link Chain#get()} on an expected
+ * miss, skipping it can make the failure path orders of magnitude cheaper.
+ *
+ * Exceptions thrown by user code are never affected.
+ *
+ * @see Catcher#exceptionMode(ExceptionMode)
+ */
+public enum ExceptionMode
+{
+  /**
+   * Every library exception is a new instance with a full stack trace.  This
+   * is the default.
+   */
+  FULL,
+
+  /**
+   * Every library exception is a new instance without a stack trace.
+   */
+  STACKLESS,
+
+  /**
+   * Library exceptions carrying no per-call state are shared, preallocated,
+   * stackless instances, with suppression disabled so that they cannot be
+   * changed by any one caller.  Exceptions which carry a cause or other
+   * per-call details, including timeouts, are created as with
+   * {@link #STACKLESS}.
+   */
+  PREALLOCATED
+}
@@ -0,0 +1,147 @@
+package io.vulpine.lib.catcher;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Factory for every exception originating from this library, applying the
+ * configured {@link ExceptionMode}.
+ *
+ * The mode is only read when an exception is about to be created, so it has
+ * no cost on success paths.
+ */
+final class Exceptions
+{
+  static final String PROPERTY = "io.vulpine.lib.catcher.exceptionMode";
+
+  private static final String EMPTY = "Get attempted on an empty Catcher result.";
+
+  private static final String FAILED = "Get attempted on a failed Catcher result.";
+
+  /**
+   * Shared by every caller, so suppression is disabled and the cause, being
+   * passed to the constructor, can no longer be initialized.
+   */
+  private static final EmptyResultException SHARED_EMPTY =
+    new EmptyResultException(EMPTY, null, false, false);
+
+  private static volatile ExceptionMode mode = initialMode();
+
+  private Exceptions() {}
+
+  static ExceptionMode mode()
+  {
+    return mode;
+  }
+
+  static void mode( final ExceptionMode next )
+  {
+    mode = next;
+  }
+
+  /**
+   * @return Exception thrown when getting a value from an empty chain.
+   */
+  static EmptyResultException empty()
+  {
+    switch ( mode ) {
+      case PREALLOCATED:
+        return SHARED_EMPTY;
+      case STACKLESS:
+        return new EmptyResultException(EMPTY, null, false);
+      default:
+        return new EmptyResultException(EMPTY);
+    }
+  }
+
+  /**
+   * @param cause Exception held by the failed result
+   *
+   * @return Exception thrown when getting a value from a failed result.
+   */
+  static EmptyResultException failed( final Exception cause )
+  {
+    return mode == ExceptionMode.FULL
+      ? new EmptyResultException(FAILED, cause)
+      : new EmptyResultException(FAILED, cause, false);
+  }
+
+  /**
+   * Timeouts are never shared, even when preallocating: TimeoutException
+   * offers no way to disable suppression, and it's message names the timeout
+   * of the call.
+   *
+   * @param message Timeout description
+   * @param cause   Exception thrown by the timed out call, if any
+   *
+   * @return Exception reported when a call exceeds it's timeout.
+   */
+  static TimeoutException timeout( final String message, final Exception cause )
+  {
+    final TimeoutException out = mode == ExceptionMode.FULL
+      ? new TimeoutException(message)
+      : new StacklessTimeoutException(message);
+
+    if ( cause != null ) {
+      out.initCause(cause);
+    }
+
+    return out;
+  }
+
+  /**
+   * @param attempts Number of attempts made
+   * @param cause    Last failure
+   *
+   * @return Exception reported when a retry policy gives up.
+   */
+  static RetryException retry( final int attempts, final Exception cause )
+  {
+    return mode == ExceptionMode.FULL
+      ? new RetryException(attempts, cause)
+      : new RetryException(attempts, cause, false);
+  }
+
+  /**
+   * @param first Failure of the earlier attempt
+   * @param last  Failure of the later attempt
+   *
+   * @return Exception reported when every attempt of a hedged call fails.
+   */
+  static HedgeException hedge( final Exception first, final Exception last )
+  {
+    return mode == ExceptionMode.FULL
+      ? new HedgeException(first, last)
+      : new HedgeException(first, last, false);
+  }
+
+  private static ExceptionMode initialMode()
+  {
+    final String value = System.getProperty(PROPERTY);
+
+    if ( value == null ) {
+      return ExceptionMode.FULL;
+    }
+
+    try {
+      return ExceptionMode.valueOf(value.trim().toUpperCase());
+    } catch ( final IllegalArgumentException e ) {
+      return ExceptionMode.FULL;
+    }
+  }
+
+  private static final class StacklessTimeoutException extends TimeoutException
+  {
+    private static final long serialVersionUID = 1L;
+
+    StacklessTimeoutException( final String message )
+    {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace()
+    {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package io.vulpine.lib.catcher;
+
+import java.util.function.Consumer;
+
+/**
+ * Java Flight Recorder hooks.
+ *
+ * Flight Recorder events require Java 11, while this library targets Java 8,
+ * so this class has no effect; every method is empty or a plain delegation
+ * and compiles away entirely.  The multi-release jar carries a Java 11
+ * version of this class under {@code META-INF/versions/11} which emits the
+ * {@code io.vulpine.lib.catcher.*} events whenever a recording has them
+ * enabled.
+ */
+final class Flight
+{
+  private Flight() {}
+
+  /**
+   * Notes that an exception was caught.
+   *
+   * @param site Name of the call site, or null if the call was not made
+   *             through a named site
+   * @param e    Caught exception
+   */
+  static void caught( final String site, final Exception e ) {}
+
+  /**
+   * Notes that a fallback was used in place of a failed call's result.
+   *
+   * @param site Name of the call site, or null if the call was not made
+   *             through a named site
+   * @param e    Exception which caused the fallback to be used
+   */
+  static void fallback( final String site, final Exception e ) {}
+
+  /**
+   * Passes the given exception to the given handler, timing the handler.
+   *
+   * @param site    Name of the call site, or null if the call was not made
+   *                through a named site
+   * @param handler Exception handler
+   * @param e       Exception to handle
+   */
+  static void handle(
+    final String site,
+    final Consumer < ? super Exception > handler,
+    final Exception e
+  ) {
+    handler.accept(e);
+  }
+}
@@ -0,0 +1,138 @@
+package io.vulpine.lib.catcher;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Immutable exception handler dispatching on the class of each exception.
+ *
+ * Each exception is passed to the handler registered for the most specific
+ * class in it's superclass hierarchy, or to the default handler if none
+ * matches.  The handler chosen for each exception class is resolved once and
+ * cached in a {@link ClassValue}, so dispatch after the first exception of a
+ * given class is a single lookup, however many handlers are registered.
+ *
+ * As a HandlerTable is a {@code Consumer < Exception >}, it may be passed
+ * anywhere a handler is accepted, such as {@link Chain#handle(Consumer)} or
+ * the {@code Catcher.call} overloads taking a handler.
+ *
+ * <pre>{@code
+ * static final HandlerTable HANDLER = HandlerTable.create()
+ *   .on(FileNotFoundException.class, e -> LOG.info("missing {}", e.getMessage()))
+ *   .on(IOException.class, LOG::warn)
+ *   .otherwise(LOG::error);
+ *
+ * Catcher.with(() -> read(path)).handle(HANDLER).orElse(DEFAULT);
+ * }</pre>
+ *
+ * Tables are intended to be built once and shared across calls and threads.
+ */
+public final class HandlerTable implements Consumer < Exception >
+{
+  private static final Consumer < Exception > IGNORE = e -> {};
+
+  private static final HandlerTable EMPTY = new HandlerTable(new HashMap <>(), IGNORE);
+
+  /**
+   * Handlers keyed by the exact class they were registered for.
+   */
+  private final Map < Class < ? >, Consumer < Exception > > handlers;
+
+  private final Consumer < Exception > fallback;
+
+  private final ClassValue < Consumer < Exception > > resolved =
+    new ClassValue < Consumer < Exception > >()
+    {
+      @Override
+      protected Consumer < Exception > computeValue( final Class < ? > type )
+      {
+        return resolve(type);
+      }
+    };
+
+  private HandlerTable(
+    final Map < Class < ? >, Consumer < Exception > > handlers,
+    final Consumer < Exception > fallback
+  )
+  {
+    this.handlers = handlers;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Returns a table with no handlers, which ignores every exception.
+   *
+   * @return An empty handler table.
+   */
+  public static HandlerTable create()
+  {
+    return EMPTY;
+  }
+
+  /**
+   * @param type    Exception class to handle, including it's subclasses
+   * @param handler Handler for exceptions of the given class
+   *
+   * @param <E> Handled exception type.
+   *
+   * @return A copy of this table using the given handler for exceptions of
+   *         the given class, replacing any handler previously registered for
+   *         exactly that class.
+   *
+   * @throws NullPointerException if either argument is null.
+   */
+  @SuppressWarnings("unchecked")
+  public < E extends Exception > HandlerTable on(
+    final Class < E > type,
+    final Consumer < ? super E > handler
+  ) {
+    Objects.requireNonNull(type);
+    Objects.requireNonNull(handler);
+
+    final Map < Class < ? >, Consumer < Exception > > copy = new HashMap <>(handlers);
+    copy.put(type, (Consumer < Exception >) handler);
+
+    return new HandlerTable(copy, fallback);
+  }
+
+  /**
+   * @param handler Handler for exceptions not matched by any registered class
+   *
+   * @return A copy of this table using the given default handler.
+   *
+   * @throws NullPointerException if the given handler is null.
+   */
+  public HandlerTable otherwise( final Consumer < Exception > handler )
+  {
+    Objects.requireNonNull(handler);
+
+    return new HandlerTable(handlers, handler);
+  }
+
+  /**
+   * Passes the given exception to the handler registered for it's most
+   * specific class.
+   *
+   * @param e Exception to handle
+   */
+  @Override
+  public void accept( final Exception e )
+  {
+    resolved.get(e.getClass()).accept(e);
+  }
+
+  private Consumer < Exception > resolve( final Class < ? > type )
+  {
+    for ( Class < ? > c = type; c != null; c = c.getSuperclass() ) {
+      final Consumer < Exception > h = handlers.get(c);
+
+      if ( h != null ) {
+        return h;
+      }
+    }
+
+    return fallback;
+  }
+}
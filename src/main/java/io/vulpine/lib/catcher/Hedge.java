@@ -0,0 +1,246 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A single hedged call backing {@code Catcher.hedge}.
+ *
+ * The primary attempt is submitted straight away, and a second, hedge
+ * attempt is scheduled on the shared {@link TimerWheel} for the hedge delay.
+ * Whichever attempt succeeds first completes the result; the other is
+ * ignored, and if the hedge has not been launched yet it is cancelled.  A
+ * failed primary launches the hedge immediately rather than waiting out the
+ * delay, so the result only fails once every attempt has failed.
+ *
+ * The hedge attempt is extra load on the dependency, and once the primary
+ * has failed it is a retry, so it is only launched if the call's
+ * {@link RetryBudget} allows; each successful call deposits into the budget.
+ *
+ * The timer only ever hands the hedge off to the common {@link ForkJoinPool},
+ * which submits it to the call's executor.  No user code, and no executor
+ * which might run tasks on the submitting thread, ever runs on the timer
+ * thread shared by every timeout in the library.
+ *
+ * @param <R> Supplier result type.
+ */
+final class Hedge < R >
+{
+  /**
+   * Hedge delay meaning no hedge attempt should be made.
+   */
+  static final long NEVER = -1;
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater < Hedge > PENDING =
+    AtomicIntegerFieldUpdater.newUpdater(Hedge.class, "pending");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater < Hedge > HEDGED =
+    AtomicIntegerFieldUpdater.newUpdater(Hedge.class, "hedged");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater < Hedge, Exception > FAILURE =
+    AtomicReferenceFieldUpdater.newUpdater(Hedge.class, Exception.class, "failure");
+
+  private final CheckedSupplier < R > supplier;
+
+  private final Executor executor;
+
+  private final RetryBudget budget;
+
+  private final CallSite site;
+
+  private final CompletableFuture < R > result = new CompletableFuture <>();
+
+  /**
+   * Number of attempts, launched or not, which have not yet failed.
+   */
+  private volatile int pending;
+
+  /**
+   * 1 once the hedge attempt has been launched or ruled out.
+   */
+  private volatile int hedged;
+
+  private volatile TimerWheel.Timeout timer;
+
+  private volatile Exception failure;
+
+  private Hedge(
+    final CheckedSupplier < R > supplier,
+    final Executor executor,
+    final RetryBudget budget,
+    final CallSite site,
+    final boolean hedge
+  )
+  {
+    this.supplier = supplier;
+    this.executor = executor;
+    this.budget = budget;
+    this.site = site;
+    this.pending = hedge ? 2 : 1;
+    this.hedged = hedge ? 0 : 1;
+  }
+
+  /**
+   * Starts a hedged call.
+   *
+   * @param supplier Supplier to attempt
+   * @param delay    Nanoseconds to wait for the primary attempt before
+   *                 launching the hedge, or {@link #NEVER}
+   * @param executor Executor the attempts are run on
+   * @param budget   Budget the hedge attempt is drawn from
+   * @param site     Call site to record the call against, or null
+   *
+   * @return Future completed by the first successful attempt, or with the
+   *         failure of the call if every attempt failed.
+   */
+  static < R > CompletableFuture < R > start(
+    final CheckedSupplier < R > supplier,
+    final long delay,
+    final Executor executor,
+    final RetryBudget budget,
+    final CallSite site
+  ) {
+    final Hedge < R > h = new Hedge <>(supplier, executor, budget, site, delay != NEVER);
+
+    // Scheduled before the primary is launched, so that the hedge is still
+    // made should the executor run the primary on this thread.
+    if ( delay != NEVER ) {
+      h.timer = TimerWheel.shared().schedule(h::handOff, delay);
+    }
+
+    h.launch();
+
+    return h.result;
+  }
+
+  private void launch()
+  {
+    try {
+      executor.execute(this::attempt);
+    } catch ( final RejectedExecutionException e ) {
+      fail(e);
+    }
+  }
+
+  /**
+   * Runs on the timer thread, so does nothing but move the hedge to another
+   * thread.
+   */
+  private void handOff()
+  {
+    if ( !result.isDone() ) {
+      ForkJoinPool.commonPool().execute(this::hedge);
+    }
+  }
+
+  /**
+   * Launches the hedge attempt once the delay has passed, unless the call has
+   * already completed or the hedge was launched early.
+   */
+  private void hedge()
+  {
+    if ( !result.isDone() && HEDGED.compareAndSet(this, 0, 1) ) {
+      launchHedge();
+    }
+  }
+
+  private void launchHedge()
+  {
+    if ( budget.tryRetry() ) {
+      launch();
+      return;
+    }
+
+    // The budget is spent, so the hedge attempt will never be made.  If the
+    // primary has already failed, it's failure is the result.
+    if ( PENDING.decrementAndGet(this) == 0 ) {
+      complete(failure);
+    }
+  }
+
+  private void attempt()
+  {
+    if ( result.isDone() ) {
+      return;
+    }
+
+    final long start = System.nanoTime();
+    final R out;
+
+    try {
+      out = supplier.get();
+    } catch ( final Exception e ) {
+      fail(e);
+      return;
+    } catch ( final Error e ) {
+      if ( result.completeExceptionally(e) ) {
+        cancelHedge();
+      }
+      throw e;
+    }
+
+    if ( site != null ) {
+      site.recordAttempt(System.nanoTime() - start);
+    }
+
+    if ( result.complete(out) ) {
+      cancelHedge();
+      budget.onSuccess();
+
+      if ( site != null ) {
+        site.recordOutcome(null);
+      }
+    }
+  }
+
+  private void fail( final Exception e )
+  {
+    Flight.caught(site == null ? null : site.name(), e);
+
+    final Exception previous = FAILURE.getAndSet(this, e);
+
+    if ( PENDING.decrementAndGet(this) > 0 ) {
+      // The other attempt is still to come; launch it now rather than at the
+      // hedge delay.
+      if ( HEDGED.compareAndSet(this, 0, 1) ) {
+        cancelTimer();
+        launchHedge();
+      }
+      return;
+    }
+
+    complete(previous == null ? e : Exceptions.hedge(previous, e));
+  }
+
+  private void complete( final Exception e )
+  {
+    if ( result.completeExceptionally(e) && site != null ) {
+      site.recordOutcome(e);
+    }
+  }
+
+  private void cancelHedge()
+  {
+    if ( HEDGED.compareAndSet(this, 0, 1) ) {
+      cancelTimer();
+    }
+  }
+
+  private void cancelTimer()
+  {
+    final TimerWheel.Timeout t = timer;
+
+    if ( t != null ) {
+      t.cancel();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Exception held by a hedged call once both of it's attempts have failed.
+ *
+ * The failure of the later attempt is available as the cause of this
+ * exception, and the failure of the earlier attempt as it's only suppressed
+ * exception.  Neither failure is itself modified, so suppliers may safely
+ * throw shared exception instances.
+ */
+public class HedgeException extends Exception
+{
+  private static final long serialVersionUID = 1L;
+
+  private static final String MESSAGE = "Every hedged attempt failed";
+
+  private final Exception first;
+
+  public HedgeException( final Exception first, final Exception last )
+  {
+    super(MESSAGE, last);
+    this.first = first;
+    addSuppressed(first);
+  }
+
+  HedgeException(
+    final Exception first,
+    final Exception last,
+    final boolean writableStackTrace
+  )
+  {
+    super(MESSAGE, last, true, writableStackTrace);
+    this.first = first;
+    addSuppressed(first);
+  }
+
+  /**
+   * @return The failure of the attempt which failed first.
+   */
+  public Exception first()
+  {
+    return first;
+  }
+
+  /**
+   * @return The failure of the attempt which failed last.
+   */
+  @Override
+  public synchronized Exception getCause()
+  {
+    return (Exception) super.getCause();
+  }
+}
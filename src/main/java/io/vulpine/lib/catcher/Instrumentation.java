@@ -0,0 +1,57 @@
+package io.vulpine.lib.catcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * Global switch for the optional diagnostics of this library: call site
+ * latency histograms and the {@link StepHistory} of chain steps.  Flight
+ * Recorder events are governed by the recording settings instead.
+ *
+ * The switch is held as the target of a {@link MutableCallSite} invoked
+ * through a static final method handle.  The JIT treats the target as a
+ * constant, so while the switch is off every guarded block is removed from
+ * compiled code entirely, and no memory read of any kind is made per call.
+ * Flipping the switch swaps the target, which deoptimizes and recompiles the
+ * code depending on it; this is expensive, but only happens when an operator
+ * changes the setting.
+ *
+ * The initial state may be set with the
+ * {@code io.vulpine.lib.catcher.instrumentation} system property.
+ */
+final class Instrumentation
+{
+  static final String PROPERTY = "io.vulpine.lib.catcher.instrumentation";
+
+  private static final MutableCallSite SWITCH = new MutableCallSite(
+    MethodHandles.constant(boolean.class, Boolean.getBoolean(PROPERTY))
+  );
+
+  private static final MethodHandle ENABLED = SWITCH.dynamicInvoker();
+
+  private Instrumentation() {}
+
+  /**
+   * @return whether diagnostics are currently enabled.
+   */
+  static boolean enabled()
+  {
+    try {
+      return (boolean) ENABLED.invokeExact();
+    } catch ( final Throwable e ) {
+      // A constant method handle cannot throw.
+      throw new AssertionError(e);
+    }
+  }
+
+  static synchronized void enabled( final boolean on )
+  {
+    if ( on == enabled() ) {
+      return;
+    }
+
+    SWITCH.setTarget(MethodHandles.constant(boolean.class, on));
+    MutableCallSite.syncAll(new MutableCallSite[] { SWITCH });
+  }
+}
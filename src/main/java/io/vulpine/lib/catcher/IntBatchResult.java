@@ -0,0 +1,58 @@
+package io.vulpine.lib.catcher;
+
+import java.util.stream.IntStream;
+
+/**
+ * Per-element outcomes of a bulk call producing {@code int} results.
+ *
+ * Primitive counterpart of {@link BatchResult}, holding results in a single
+ * {@code int[]} so that no result is boxed.
+ */
+public final class IntBatchResult extends AbstractBatchResult
+{
+  private final int[] values;
+
+  IntBatchResult(
+    final int[] values,
+    final long[] failed,
+    final int[] failureIndexes,
+    final Exception[] failures
+  )
+  {
+    super(values.length, failed, failureIndexes, failures);
+    this.values = values;
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The result for the element at the given index, or 0 if
+   *         processing it failed.
+   */
+  public int value( final int index )
+  {
+    return values[index];
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The outcome of the element at the given index as a Chain.
+   */
+  public IntChain chain( final int index )
+  {
+    final Exception e = failure(index);
+
+    return e == null
+      ? new IntChain(values[index], true, null, null)
+      : new IntChain(0, false, null, e);
+  }
+
+  /**
+   * @return Stream of the successful results, in element index order.
+   */
+  public IntStream values()
+  {
+    return successIndexes().map(this::value);
+  }
+}
@@ -0,0 +1,132 @@
+package io.vulpine.lib.catcher;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size, log bucketed histogram of latencies in nanoseconds.
+ *
+ * Each power of two range is split into 16 linear sub-buckets, so any
+ * recorded value is reported to within roughly 3% of it's true value, while
+ * the full range of non-negative {@code long} values fits in 960 buckets.
+ * Memory use is fixed at construction; recording never allocates.
+ *
+ * Recording is a single atomic increment and takes no locks, so any number
+ * of threads may record concurrently.  Counts are cumulative: a
+ * {@link #snapshot()} covers every value recorded so far, while
+ * {@link #intervalSnapshot()} covers only the values recorded since the
+ * previous interval snapshot.  Interval bookkeeping is done entirely on the
+ * reading side, so rolling over an interval never blocks a writer and never
+ * loses a recorded value.
+ */
+public final class LatencyHistogram
+{
+  private static final int SUB_BITS = 4;
+
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+
+  static final int BUCKETS = ( 64 - SUB_BITS ) * SUB_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+  /**
+   * Cumulative counts as of the last interval snapshot.  Guarded by this.
+   */
+  private long[] previous = new long[BUCKETS];
+
+  /**
+   * Records a single latency.  Negative values are recorded as zero.
+   *
+   * @param nanos Latency in nanoseconds
+   */
+  public void record( final long nanos )
+  {
+    counts.getAndIncrement(index(Math.max(0, nanos)));
+  }
+
+  /**
+   * @return Distribution of every value recorded so far.
+   */
+  public LatencySnapshot snapshot()
+  {
+    return new LatencySnapshot(counts());
+  }
+
+  /**
+   * Returns the distribution of the values recorded since the previous call
+   * to this method, or since this histogram was created for the first call.
+   *
+   * @return Distribution of the values recorded in the last interval.
+   */
+  public synchronized LatencySnapshot intervalSnapshot()
+  {
+    final long[] current = counts();
+    final LatencySnapshot out = new LatencySnapshot(delta(current, previous));
+
+    previous = current;
+
+    return out;
+  }
+
+  /**
+   * @return Copy of the cumulative count of each bucket.
+   */
+  long[] counts()
+  {
+    final long[] out = new long[BUCKETS];
+
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      out[i] = counts.get(i);
+    }
+
+    return out;
+  }
+
+  /**
+   * @return The counts recorded between the two given sets of cumulative
+   *         counts.
+   */
+  static long[] delta( final long[] current, final long[] previous )
+  {
+    final long[] out = new long[BUCKETS];
+
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      out[i] = current[i] - previous[i];
+    }
+
+    return out;
+  }
+
+  static int index( final long value )
+  {
+    if ( value < SUB_COUNT ) {
+      return (int) value;
+    }
+
+    final int exp = 63 - Long.numberOfLeadingZeros(value);
+    final int shift = exp - SUB_BITS;
+
+    return ( shift + 1 ) * SUB_COUNT + (int) ( ( value >>> shift ) & ( SUB_COUNT - 1 ) );
+  }
+
+  /**
+   * @return The smallest value recorded in the given bucket.
+   */
+  static long lowest( final int index )
+  {
+    if ( index < SUB_COUNT ) {
+      return index;
+    }
+
+    final int shift = index / SUB_COUNT - 1;
+
+    return (long) ( SUB_COUNT + index % SUB_COUNT ) << shift;
+  }
+
+  /**
+   * @return The largest value recorded in the given bucket.
+   */
+  static long highest( final int index )
+  {
+    return index == BUCKETS - 1 ? Long.MAX_VALUE : lowest(index + 1) - 1;
+  }
+}
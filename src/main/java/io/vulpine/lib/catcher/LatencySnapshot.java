@@ -0,0 +1,126 @@
+package io.vulpine.lib.catcher;
+
+import java.time.Duration;
+
+/**
+ * Immutable distribution of latencies taken from a {@link LatencyHistogram}.
+ *
+ * Values are reported as the midpoint of the bucket they fell into, so each
+ * is within roughly 3% of the latency actually recorded.
+ */
+public final class LatencySnapshot
+{
+  private final long[] counts;
+
+  private final long count;
+
+  LatencySnapshot( final long[] counts )
+  {
+    long n = 0;
+
+    for ( final long c : counts ) {
+      n += c;
+    }
+
+    this.counts = counts;
+    this.count = n;
+  }
+
+  /**
+   * @return Number of latencies in this snapshot.
+   */
+  public long count()
+  {
+    return count;
+  }
+
+  /**
+   * Returns the latency at the given percentile, that is the smallest
+   * latency which at least the given percentage of all latencies in this
+   * snapshot do not exceed.
+   *
+   * @param percentile Percentile between 0 and 100 inclusive
+   *
+   * @return The latency at the given percentile, or zero if this snapshot is
+   *         empty.
+   *
+   * @throws IllegalArgumentException if the given percentile is outside of
+   *         the range 0 to 100.
+   */
+  public Duration percentile( final double percentile )
+  {
+    if ( !( percentile >= 0 && percentile <= 100 ) ) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100");
+    }
+
+    if ( count == 0 ) {
+      return Duration.ZERO;
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+
+    long seen = 0;
+
+    for ( int i = 0; i < counts.length; i++ ) {
+      seen += counts[i];
+
+      if ( seen >= rank ) {
+        return value(i);
+      }
+    }
+
+    return max();
+  }
+
+  /**
+   * @return The median latency.
+   */
+  public Duration p50()
+  {
+    return percentile(50);
+  }
+
+  /**
+   * @return The 99th percentile latency.
+   */
+  public Duration p99()
+  {
+    return percentile(99);
+  }
+
+  /**
+   * @return The 99.9th percentile latency.
+   */
+  public Duration p999()
+  {
+    return percentile(99.9);
+  }
+
+  /**
+   * @return The largest latency in this snapshot, or zero if it is empty.
+   */
+  public Duration max()
+  {
+    for ( int i = counts.length - 1; i >= 0; i-- ) {
+      if ( counts[i] > 0 ) {
+        return value(i);
+      }
+    }
+
+    return Duration.ZERO;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "LatencySnapshot{count=" + count + ", p50=" + p50() + ", p99="
+      + p99() + ", p999=" + p999() + ", max=" + max() + '}';
+  }
+
+  private static Duration value( final int index )
+  {
+    final long lo = LatencyHistogram.lowest(index);
+
+    return Duration.ofNanos(lo + ( LatencyHistogram.highest(index) - lo ) / 2);
+  }
+}
@@ -0,0 +1,248 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Deferred counterpart of {@link Chain}.
+ *
+ * Where a Chain runs each step as it is appended, a LazyChain only records
+ * it.  Steps are flattened into an array as they are appended, alongside the
+ * handler responsible for each step, and the pipeline is run once per input,
+ * as a single loop over that array, when a terminal operation
+ * ({@link #run(Object)}, {@link #get(Object)}, {@link #orElse(Object, Object)}
+ * or {@link #asOptional(Object)}) is called.  No step list, closure or
+ * intermediate Chain is created per run, and the loop calls every step from
+ * the same call site rather than through a nest of composed functions.  A LazyChain is immutable, so it
+ * can be built once, for example at startup, and then run against any number
+ * of inputs from any number of threads.  {@link Chain#template()} starts the
+ * same pipeline from the Chain side.
+ *
+ * <pre>{@code
+ * static final LazyChain < String, Integer > PARSE = LazyChain.< String >start()
+ *   .handle(LOG::warn)
+ *   .apply(String::trim)
+ *   .apply(Integer::parseInt);
+ *
+ * int port = PARSE.orElse(raw, 8080);
+ * }</pre>
+ *
+ * Evaluation follows the same rules as Chain: a null result empties the
+ * chain and skips every later step, and an exception is passed to the
+ * handler in effect when it was thrown, or failing that, to the next handler
+ * appended after it.
+ *
+ * @param <I> Pipeline input type.
+ * @param <T> Pipeline result type.
+ */
+public final class LazyChain < I, T >
+{
+  private static final CheckedFunction < ?, ? >[] NO_STEPS = new CheckedFunction < ?, ? >[0];
+
+  @SuppressWarnings("unchecked")
+  private static final Consumer < ? super Exception >[] NO_HANDLERS =
+    (Consumer < ? super Exception >[]) new Consumer < ? >[0];
+
+  private static final LazyChain < ?, ? > IDENTITY = new LazyChain <>(
+    NO_STEPS,
+    NO_HANDLERS,
+    null
+  );
+
+  private final CheckedFunction < ?, ? >[] steps;
+
+  /**
+   * Handler consuming exceptions thrown by the step at the same index, or
+   * null if such exceptions are left unhandled.
+   */
+  private final Consumer < ? super Exception >[] handlers;
+
+  /**
+   * Handler in effect for steps appended after this point.
+   */
+  private final Consumer < ? super Exception > handler;
+
+  private LazyChain(
+    final CheckedFunction < ?, ? >[] steps,
+    final Consumer < ? super Exception >[] handlers,
+    final Consumer < ? super Exception > handler
+  )
+  {
+    this.steps = steps;
+    this.handlers = handlers;
+    this.handler = handler;
+  }
+
+  /**
+   * Returns an empty pipeline which passes it's input through unchanged.
+   *
+   * @param <I> Pipeline input type.
+   *
+   * @return An identity pipeline.
+   */
+  @SuppressWarnings("unchecked")
+  public static < I > LazyChain < I, I > start()
+  {
+    return (LazyChain < I, I >) IDENTITY;
+  }
+
+  /**
+   * Appends a step to the pipeline.
+   *
+   * @param step function used to transform the current value (if any)
+   *
+   * @param <R> Transformed type returned from the given method after the
+   *            current value is applied.
+   *
+   * @return A new pipeline ending with the given step.
+   *
+   * @see Chain#apply(CheckedFunction)
+   */
+  public < R > LazyChain < I, R > apply( final CheckedFunction < ? super T, ? extends R > step )
+  {
+    final int n = steps.length;
+    final CheckedFunction < ?, ? >[] s = Arrays.copyOf(steps, n + 1);
+    final Consumer < ? super Exception >[] h = Arrays.copyOf(handlers, n + 1);
+
+    s[n] = step;
+    h[n] = handler;
+
+    return new LazyChain <>(s, h, handler);
+  }
+
+  /**
+   * Appends an exception handler to the pipeline.
+   *
+   * The handler receives any exception thrown by an earlier step which was
+   * not already consumed by another handler, as well as any exception thrown
+   * by a later step until another handler is appended.
+   *
+   * @param handler a {@link Consumer} for exception types.
+   *
+   * @return A new pipeline using the given handler.
+   *
+   * @see Chain#handle(Consumer)
+   */
+  public LazyChain < I, T > handle( final Consumer < Exception > handler )
+  {
+    // Every exception thrown so far was already consumed, so only later
+    // steps are affected.
+    if ( this.handler != null ) {
+      return new LazyChain <>(steps, handlers, handler);
+    }
+
+    final Consumer < ? super Exception >[] h = handlers.clone();
+
+    for ( int i = 0; i < h.length; i++ ) {
+      if ( h[i] == null ) {
+        h[i] = handler;
+      }
+    }
+
+    return new LazyChain <>(steps, h, handler);
+  }
+
+  /**
+   * Runs the pipeline against the given input.
+   *
+   * @param input Pipeline input
+   *
+   * @return A Chain holding the result of the pipeline, or the exception it
+   *         ended with if no handler consumed it.  The Chain keeps the
+   *         handler in effect at the end of the pipeline for any further
+   *         steps applied to it.
+   */
+  @SuppressWarnings("unchecked")
+  public Chain < T > run( final I input )
+  {
+    Object value = input;
+
+    for ( int i = 0; i < steps.length && value != null; i++ ) {
+      try {
+        value = ( (CheckedFunction < Object, Object >) steps[i] ).apply(value);
+      } catch ( final Exception e ) {
+        return fail(i, e);
+      }
+    }
+
+    return value == null ? Chain.emptyChain() : new Chain <>((T) value, handler, null);
+  }
+
+  /**
+   * Runs the pipeline against the given input, returning it's result.
+   *
+   * @param input Pipeline input
+   *
+   * @return The result of the pipeline
+   *
+   * @throws RuntimeException thrown if the pipeline ends empty or with an
+   *         exception.
+   *
+   * @see Chain#get()
+   */
+  public T get( final I input ) throws RuntimeException
+  {
+    return run(input).get();
+  }
+
+  /**
+   * Runs the pipeline against the given input, returning it's result or the
+   * given alternative if it ends empty.
+   *
+   * @param input       Pipeline input
+   * @param alternative Alternative value to returned in the event that the
+   *                    pipeline produced no value.
+   *
+   * @return The result of the pipeline or the given alternative.
+   */
+  @SuppressWarnings("unchecked")
+  public T orElse( final I input, final T alternative )
+  {
+    Object value = input;
+
+    for ( int i = 0; i < steps.length && value != null; i++ ) {
+      try {
+        value = ( (CheckedFunction < Object, Object >) steps[i] ).apply(value);
+      } catch ( final Exception e ) {
+        fail(i, e);
+        return alternative;
+      }
+    }
+
+    return value == null ? alternative : (T) value;
+  }
+
+  /**
+   * Runs the pipeline against the given input, returning it's possible result
+   * as a Java option type.
+   *
+   * @param input Pipeline input
+   *
+   * @return Possibly empty option representing the pipeline's result.
+   */
+  public Optional < T > asOptional( final I input )
+  {
+    return Optional.ofNullable(orElse(input, null));
+  }
+
+  /**
+   * Routes an exception thrown by the step at the given index to it's
+   * handler.
+   */
+  private < R > Chain < R > fail( final int index, final Exception e )
+  {
+    final Consumer < ? super Exception > h = handlers[index];
+
+    Flight.caught(null, e);
+
+    if ( h == null ) {
+      return new Chain <>(null, null, e);
+    }
+
+    Flight.handle(null, h, e);
+    return Chain.emptyChain();
+  }
+}
@@ -0,0 +1,19 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Exception passed to fallbacks when a call is rejected because a
+ * concurrency or rate limit, such as a {@link Bulkhead}, has been reached.
+ *
+ * Rejections are expected to happen in bulk while a dependency is saturated,
+ * so this exception has no stack trace and a single instance is shared by
+ * each limiter.
+ */
+public class LimitExceededException extends Exception
+{
+  private static final long serialVersionUID = 1L;
+
+  public LimitExceededException( final String message )
+  {
+    super(message, null, false, false);
+  }
+}
@@ -0,0 +1,58 @@
+package io.vulpine.lib.catcher;
+
+import java.util.stream.LongStream;
+
+/**
+ * Per-element outcomes of a bulk call producing {@code long} results.
+ *
+ * Primitive counterpart of {@link BatchResult}, holding results in a single
+ * {@code long[]} so that no result is boxed.
+ */
+public final class LongBatchResult extends AbstractBatchResult
+{
+  private final long[] values;
+
+  LongBatchResult(
+    final long[] values,
+    final long[] failed,
+    final int[] failureIndexes,
+    final Exception[] failures
+  )
+  {
+    super(values.length, failed, failureIndexes, failures);
+    this.values = values;
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The result for the element at the given index, or 0 if
+   *         processing it failed.
+   */
+  public long value( final int index )
+  {
+    return values[index];
+  }
+
+  /**
+   * @param index Element index
+   *
+   * @return The outcome of the element at the given index as a Chain.
+   */
+  public LongChain chain( final int index )
+  {
+    final Exception e = failure(index);
+
+    return e == null
+      ? new LongChain(values[index], true, null, null)
+      : new LongChain(0L, false, null, e);
+  }
+
+  /**
+   * @return Stream of the successful results, in element index order.
+   */
+  public LongStream values()
+  {
+    return successIndexes().mapToLong(this::value);
+  }
+}
@@ -0,0 +1,250 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.catcher.function.CheckedLongFunction;
+import io.vulpine.lib.catcher.function.CheckedLongUnaryOperator;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Primitive {@code long} specialization of {@link Chain}.
+ *
+ * As a primitive value cannot be null, presence is tracked with an explicit
+ * flag rather than by null checking the value.
+ */
+public final class LongChain
+{
+  private static final LongChain EMPTY = new LongChain(0L, false, null, null);
+
+  private final long value;
+
+  private final boolean present;
+
+  private final Consumer < ? super Exception > handler;
+
+  private final Exception exception;
+
+  public LongChain(
+    final long value,
+    final boolean present,
+    final Consumer < ? super Exception > handler,
+    final Exception exception
+  )
+  {
+    this.value = value;
+    this.present = present;
+    this.handler = handler;
+    this.exception = exception;
+  }
+
+  /**
+   * Returns the shared empty LongChain.
+   *
+   * @return An empty LongChain with no handler and no pending exception.
+   */
+  public static LongChain emptyLongChain()
+  {
+    return EMPTY;
+  }
+
+  /**
+   * Shows whether or not the current Chain value is empty.
+   *
+   * @see #present() Inverse shortcut method showing if value is non-empty
+   *
+   * @return if the Chain is empty
+   */
+  public boolean empty()
+  {
+    return !present;
+  }
+
+  /**
+   * Shows whether or not the current Chain value is non-empty
+   *
+   * @see #empty() Inverse shortcut method showing if value is empty
+   *
+   * @return if the Chain holds a value.
+   */
+  public boolean present()
+  {
+    return present;
+  }
+
+  /**
+   * Return the contained possible value as a Java option type.
+   *
+   * @return Possibly empty option representing this Chain's current value.
+   */
+  public OptionalLong asOptional()
+  {
+    return present ? OptionalLong.of(value) : OptionalLong.empty();
+  }
+
+  /**
+   * Gets the currently contained value.
+   *
+   * @return The value currently contained in this Chain
+   *
+   * @throws EmptyResultException thrown if there is no value present.  To
+   *   prevent this, consider checking against the {@link #empty()} or
+   *   {@link #present()} methods to verify that this chain currently contains
+   *   an available value.
+   */
+  public long get() throws RuntimeException
+  {
+    if ( !present ) {
+      throw Exceptions.empty();
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the current value or the given alternative if no value is present.
+   *
+   * @param alternative Alternative value to returned in the event that this
+   *                    chain currently contains no value.
+   *
+   * @return current value or given alternative
+   */
+  public long orElse( final long alternative )
+  {
+    return present ? value : alternative;
+  }
+
+  /**
+   * Returns the current value or the result of the given supplier if no value
+   * is present.
+   *
+   * @param supplier Supplier of an alternative value to be returned in the case
+   *                 where this Chain contains no value.
+   *
+   * @return current value or result of given supplier.
+   */
+  public long orElse( final LongSupplier supplier )
+  {
+    return present ? value : supplier.getAsLong();
+  }
+
+  /**
+   * Returns the current value or throws the result of the given {@link Supplier}.
+   *
+   * @param supplier Exception supplier
+   *
+   * @param <R> Capture type of the expected thrown Exception
+   *
+   * @return current value if present.
+   *
+   * @throws R the result of calling supplier.{@link Supplier#get()}
+   */
+  public < R extends Exception > long orElseThrow( final Supplier < R > supplier )
+  throws R
+  {
+    if ( !present ) {
+      throw supplier.get();
+    }
+
+    return value;
+  }
+
+  /**
+   * Applies the current value to the given operator.
+   *
+   * @param step operator used to transform the current value (if any)
+   *
+   * @return A LongChain containing the result of the given operator.
+   */
+  public LongChain apply( final CheckedLongUnaryOperator step )
+  {
+    // No value, just pass through
+    if ( !present ) {
+      return this;
+    }
+
+    final long next;
+
+    try {
+      next = step.applyAsLong(value);
+    } catch ( final Exception e ) {
+      return fail(e);
+    }
+
+    return new LongChain(next, true, handler, null);
+  }
+
+  /**
+   * Applies the current value to the given function, leaving the primitive
+   * chain.
+   *
+   * @param step function used to transform the current value (if any)
+   *
+   * @param <R> Transformed type returned from the given method after the Chain
+   *            value is applied.
+   *
+   * @return A new Chain of the return type of the given function.
+   */
+  public < R > Chain < R > applyToObj( final CheckedLongFunction < R > step )
+  {
+    if ( !present ) {
+      return exception == null
+        ? Chain.emptyChain()
+        : new Chain <>(null, null, exception);
+    }
+
+    final R next;
+
+    try {
+      next = step.apply(value);
+    } catch ( final Exception e ) {
+      return Chain.consumed(handler, e)
+        ? Chain.emptyChain()
+        : new Chain <>(null, null, e);
+    }
+
+    return next == null ? Chain.emptyChain() : new Chain <>(next, handler, null);
+  }
+
+  /**
+   * Appends an exception handler to the Chain
+   *
+   * If an exception has already occurred in this chain previous to this call,
+   * the given handler will fired immediately.
+   *
+   * @param handler a {@link Consumer} for exception types.
+   *
+   * @return The current Chain with no modification to it's value.
+   */
+  public LongChain handle( final Consumer < Exception > handler )
+  {
+    if ( exception != null ) {
+      Flight.handle(null, handler, exception);
+      return EMPTY;
+    }
+
+    if ( !present ) {
+      return EMPTY;
+    }
+
+    if ( handler == this.handler ) {
+      return this;
+    }
+
+    return new LongChain(value, true, handler, null);
+  }
+
+  /**
+   * Failure path for {@link #apply(CheckedLongUnaryOperator)}, kept out of line
+   * so that the success path stays inlineable.
+   *
+   * @param e exception thrown by the step function.
+   *
+   * @return An empty Chain, carrying the exception if no handler consumed it.
+   */
+  private LongChain fail( final Exception e )
+  {
+    return Chain.consumed(handler, e) ? EMPTY : new LongChain(0L, false, null, e);
+  }
+}
@@ -0,0 +1,37 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Pair of the successful and failed outcomes collected by
+ * {@link CatcherCollectors}.
+ *
+ * @param <S> Container type of the successful results.
+ * @param <F> Container type of the failures.
+ */
+public final class Partition < S, F >
+{
+  private final S successes;
+
+  private final F failures;
+
+  public Partition( final S successes, final F failures )
+  {
+    this.successes = successes;
+    this.failures = failures;
+  }
+
+  /**
+   * @return The collected successful results.
+   */
+  public S successes()
+  {
+    return successes;
+  }
+
+  /**
+   * @return The collected failures.
+   */
+  public F failures()
+  {
+    return failures;
+  }
+}
@@ -0,0 +1,174 @@
+package io.vulpine.lib.catcher;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Token bucket rate limiter, used to keep calls to a dependency within it's
+ * quota by rejecting excess calls locally.
+ *
+ * The bucket holds up to {@code burst} permits and refills at the configured
+ * rate.  Rather than storing a token count refilled by a background thread,
+ * the bucket is represented by a single timestamp: the time at which it
+ * would next be completely full.  Taking a permit moves that time forward by
+ * one permit's worth, which is a single compare-and-set, and refilling is
+ * implied by the clock moving past it.  No lock is taken and no thread is
+ * needed.
+ *
+ * Calls are usually made through
+ * {@link Catcher#call(io.vulpine.lib.jcfi.CheckedSupplier, RateLimiter, Duration, java.util.function.Function)}.
+ *
+ * <pre>{@code
+ * static final RateLimiter QUOTA = new RateLimiter(100, Duration.ofSeconds(1));
+ *
+ * Stock stock = Catcher.call(
+ *   () -> inventory.find(sku),
+ *   QUOTA,
+ *   Duration.ofMillis(20),
+ *   e -> Stock.UNKNOWN
+ * );
+ * }</pre>
+ */
+public final class RateLimiter
+{
+  private static final AtomicLongFieldUpdater < RateLimiter > FULL_AT =
+    AtomicLongFieldUpdater.newUpdater(RateLimiter.class, "fullAt");
+
+  private final long intervalNanos;
+
+  private final long burstNanos;
+
+  private final LimitExceededException rejection;
+
+  /**
+   * Time at which the bucket will be completely full, if no further permits
+   * are taken.
+   */
+  private volatile long fullAt;
+
+  /**
+   * Creates a rate limiter allowing bursts of up to the full number of
+   * permits per period.
+   *
+   * @param permits Number of permits per period
+   * @param per     Period over which the given number of permits refill
+   *
+   * @throws IllegalArgumentException if the number of permits is less than 1
+   *         or the period is not positive.
+   */
+  public RateLimiter( final int permits, final Duration per )
+  {
+    this(permits, per, permits);
+  }
+
+  /**
+   * @param permits Number of permits per period
+   * @param per     Period over which the given number of permits refill
+   * @param burst   Maximum number of permits which may be taken at once
+   *                after the limiter has been idle
+   *
+   * @throws IllegalArgumentException if the number of permits or burst size
+   *         is less than 1, or the period is not positive.
+   */
+  public RateLimiter( final int permits, final Duration per, final int burst )
+  {
+    if ( permits < 1 ) {
+      throw new IllegalArgumentException("permits must be at least 1");
+    }
+
+    if ( burst < 1 ) {
+      throw new IllegalArgumentException("burst must be at least 1");
+    }
+
+    if ( per.isZero() || per.isNegative() ) {
+      throw new IllegalArgumentException("per must be positive");
+    }
+
+    this.intervalNanos = Math.max(1, per.toNanos() / permits);
+    this.burstNanos = intervalNanos * burst;
+    this.rejection = new LimitExceededException("Rate limit reached");
+    this.fullAt = System.nanoTime();
+  }
+
+  /**
+   * Takes a permit if one is available right now.
+   *
+   * @return whether a permit was taken.
+   */
+  public boolean tryAcquire()
+  {
+    return tryAcquire(0);
+  }
+
+  /**
+   * Takes a permit, waiting up to the given time for one to become available.
+   *
+   * The wait is decided up front: if no permit will be available within the
+   * given time this returns false immediately, without waiting.  Gives up
+   * early, leaving the interrupt flag set and returning the reserved permit
+   * to the bucket, if the current thread is interrupted while waiting.
+   *
+   * @param maxWait Maximum time to wait for a permit
+   *
+   * @return whether a permit was taken.
+   */
+  public boolean tryAcquire( final Duration maxWait )
+  {
+    return tryAcquire(maxWait.toNanos());
+  }
+
+  LimitExceededException rejection()
+  {
+    return rejection;
+  }
+
+  boolean tryAcquire( final long maxWaitNanos )
+  {
+    long now;
+    long wait;
+
+    while ( true ) {
+      now = System.nanoTime();
+
+      final long full = fullAt;
+      final long next = Math.max(full, now) + intervalNanos;
+
+      wait = next - now - burstNanos;
+
+      if ( wait > maxWaitNanos ) {
+        return false;
+      }
+
+      if ( FULL_AT.compareAndSet(this, full, next) ) {
+        break;
+      }
+    }
+
+    if ( wait <= 0 || pause(now + wait) ) {
+      return true;
+    }
+
+    // Interrupted; give the reserved permit back for another caller.
+    FULL_AT.getAndAdd(this, -intervalNanos);
+    return false;
+  }
+
+  /**
+   * Waits until the given time for a reserved permit.
+   *
+   * @return false if interrupted before the given time.
+   */
+  private static boolean pause( final long until )
+  {
+    for ( long left = until - System.nanoTime(); left > 0; left = until - System.nanoTime() ) {
+      if ( Thread.currentThread().isInterrupted() ) {
+        return false;
+      }
+
+      LockSupport.parkNanos(left);
+    }
+
+    return true;
+  }
+}
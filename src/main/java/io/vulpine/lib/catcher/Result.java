@@ -0,0 +1,396 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import io.vulpine.lib.jcfi.CheckedSupplier;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Alternative to {@link Chain} representing each state as it's own class.
+ *
+ * A Result is exactly one of {@link Success}, {@link Failure} or
+ * {@link Empty}.  The constructor is private, so no other subtypes can exist,
+ * and each subtype is final, so call sites see at most three receiver types
+ * and usually one or two.  Each subtype carries only the single field it
+ * needs.
+ *
+ * Unlike Chain, a Success may hold null: a supplier or step legitimately
+ * returning null is a Success, not an empty result, so there is no need to
+ * wrap nullable values in an Optional.
+ *
+ * Exceptions are not consumed by a handler appended earlier in the pipeline.
+ * A failure stays a {@link Failure} until {@link #handle(Consumer)} is
+ * called, which consumes it and leaves an {@link Empty} result.
+ *
+ * @param <T> Type of the value contained in this result.
+ */
+public abstract class Result < T >
+{
+  private Result() {}
+
+  /**
+   * Runs the given supplier, capturing it's outcome as a Result.
+   *
+   * @param sup Checked value supplier
+   *
+   * @param <T> Supplier result type.
+   *
+   * @return A Success holding the supplied value, or a Failure holding the
+   *         thrown exception.
+   */
+  public static < T > Result < T > of( final CheckedSupplier < T > sup )
+  {
+    try {
+      return new Success <>(sup.get());
+    } catch ( final Exception e ) {
+      Flight.caught(null, e);
+      return new Failure <>(e);
+    }
+  }
+
+  /**
+   * @param value Success value, may be null
+   *
+   * @param <T> Value type.
+   *
+   * @return A Success holding the given value.
+   */
+  public static < T > Result < T > success( final T value )
+  {
+    return new Success <>(value);
+  }
+
+  /**
+   * @param exception Failure cause
+   *
+   * @param <T> Type of the (absent) value.
+   *
+   * @return A Failure holding the given exception.
+   */
+  public static < T > Result < T > failure( final Exception exception )
+  {
+    return new Failure <>(exception);
+  }
+
+  /**
+   * @param <T> Type of the (absent) value.
+   *
+   * @return The shared Empty result.
+   */
+  @SuppressWarnings("unchecked")
+  public static < T > Result < T > empty()
+  {
+    return (Result < T >) Empty.INSTANCE;
+  }
+
+  /**
+   * @return whether this is a {@link Success}.
+   */
+  public abstract boolean isSuccess();
+
+  /**
+   * @return whether this is a {@link Failure}.
+   */
+  public abstract boolean isFailure();
+
+  /**
+   * @return whether this is {@link Empty}.
+   */
+  public abstract boolean isEmpty();
+
+  /**
+   * Gets the successful value.
+   *
+   * @return The value held by this result, possibly null.
+   *
+   * @throws EmptyResultException thrown if this result is not a Success.
+   */
+  public abstract T get() throws RuntimeException;
+
+  /**
+   * @param alternative Value to return if this result is not a Success.
+   *
+   * @return The successful value or the given alternative.
+   */
+  public abstract T orElse( T alternative );
+
+  /**
+   * @param supplier Supplier of the value to return if this result is not a
+   *                 Success.
+   *
+   * @return The successful value or the result of the given supplier.
+   */
+  public abstract T orElse( Supplier < T > supplier );
+
+  /**
+   * Applies the successful value to the given method.  Failures and empty
+   * results are passed through unchanged.
+   *
+   * @param step function used to transform the successful value (if any)
+   *
+   * @param <R> Transformed type returned from the given method.
+   *
+   * @return A Success holding the step's result, or a Failure holding the
+   *         exception it threw.
+   */
+  public abstract < R > Result < R > apply( CheckedFunction < ? super T, ? extends R > step );
+
+  /**
+   * Passes a held exception to the given handler.
+   *
+   * @param handler a {@link Consumer} for exception types.
+   *
+   * @return {@link Empty} if this was a Failure, otherwise this result.
+   */
+  public abstract Result < T > handle( Consumer < ? super Exception > handler );
+
+  /**
+   * @return The successful value as a Java option type.  A Success holding
+   *         null is returned as an empty option.
+   */
+  public abstract Optional < T > asOptional();
+
+  /**
+   * Converts this result to a {@link Chain}.  A Success holding null becomes
+   * an empty Chain.
+   *
+   * @return Chain equivalent of this result.
+   */
+  public abstract Chain < T > toChain();
+
+  /**
+   * Result holding a successful, possibly null, value.
+   */
+  public static final class Success < T > extends Result < T >
+  {
+    private final T value;
+
+    private Success( final T value )
+    {
+      this.value = value;
+    }
+
+    @Override
+    public boolean isSuccess()
+    {
+      return true;
+    }
+
+    @Override
+    public boolean isFailure()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+      return false;
+    }
+
+    @Override
+    public T get()
+    {
+      return value;
+    }
+
+    @Override
+    public T orElse( final T alternative )
+    {
+      return value;
+    }
+
+    @Override
+    public T orElse( final Supplier < T > supplier )
+    {
+      return value;
+    }
+
+    @Override
+    public < R > Result < R > apply( final CheckedFunction < ? super T, ? extends R > step )
+    {
+      try {
+        return new Success <>(step.apply(value));
+      } catch ( final Exception e ) {
+        Flight.caught(null, e);
+        return new Failure <>(e);
+      }
+    }
+
+    @Override
+    public Result < T > handle( final Consumer < ? super Exception > handler )
+    {
+      return this;
+    }
+
+    @Override
+    public Optional < T > asOptional()
+    {
+      return Optional.ofNullable(value);
+    }
+
+    @Override
+    public Chain < T > toChain()
+    {
+      return value == null ? Chain.emptyChain() : new Chain <>(value, null, null);
+    }
+  }
+
+  /**
+   * Result holding the exception which prevented a value from being
+   * produced.
+   */
+  public static final class Failure < T > extends Result < T >
+  {
+    private final Exception exception;
+
+    private Failure( final Exception exception )
+    {
+      this.exception = exception;
+    }
+
+    /**
+     * @return The exception held by this result.
+     */
+    public Exception exception()
+    {
+      return exception;
+    }
+
+    @Override
+    public boolean isSuccess()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isFailure()
+    {
+      return true;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+      return false;
+    }
+
+    @Override
+    public T get()
+    {
+      throw Exceptions.failed(exception);
+    }
+
+    @Override
+    public T orElse( final T alternative )
+    {
+      return alternative;
+    }
+
+    @Override
+    public T orElse( final Supplier < T > supplier )
+    {
+      return supplier.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public < R > Result < R > apply( final CheckedFunction < ? super T, ? extends R > step )
+    {
+      return (Result < R >) this;
+    }
+
+    @Override
+    public Result < T > handle( final Consumer < ? super Exception > handler )
+    {
+      Flight.handle(null, handler, exception);
+      return empty();
+    }
+
+    @Override
+    public Optional < T > asOptional()
+    {
+      return Optional.empty();
+    }
+
+    @Override
+    public Chain < T > toChain()
+    {
+      return new Chain <>(null, null, exception);
+    }
+  }
+
+  /**
+   * Result holding neither a value nor an exception, such as after a failure
+   * has been handled.
+   */
+  public static final class Empty < T > extends Result < T >
+  {
+    private static final Empty < ? > INSTANCE = new Empty <>();
+
+    private Empty() {}
+
+    @Override
+    public boolean isSuccess()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isFailure()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+      return true;
+    }
+
+    @Override
+    public T get()
+    {
+      throw Exceptions.empty();
+    }
+
+    @Override
+    public T orElse( final T alternative )
+    {
+      return alternative;
+    }
+
+    @Override
+    public T orElse( final Supplier < T > supplier )
+    {
+      return supplier.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public < R > Result < R > apply( final CheckedFunction < ? super T, ? extends R > step )
+    {
+      return (Result < R >) this;
+    }
+
+    @Override
+    public Result < T > handle( final Consumer < ? super Exception > handler )
+    {
+      return this;
+    }
+
+    @Override
+    public Optional < T > asOptional()
+    {
+      return Optional.empty();
+    }
+
+    @Override
+    public Chain < T > toChain()
+    {
+      return Chain.emptyChain();
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package io.vulpine.lib.catcher;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits retries to a fraction of recent successful calls, so that retrying
+ * cannot multiply the load on a dependency that is already failing.
+ *
+ * Each successful call deposits into the budget, and each retry withdraws
+ * from it.  A retry is allowed while the retries made over the recent window
+ * stay below the configured ratio of the successes over that window, plus a
+ * small fixed allowance so that a quiet dependency can still be retried.
+ * Once a dependency starts failing, successes dry up and retries quickly
+ * stop, capping the extra load retries can add at the ratio.
+ *
+ * A budget is intended to be shared.  Every {@link RetryPolicy} and hedged
+ * call draws from {@link #shared()} by default, bounding all retries in the
+ * JVM; attach a separate budget to the policies calling a given dependency
+ * to bound that dependency on it's own.  Counts are kept in a ring of time buckets,
+ * each holding {@link LongAdder} counters, so that many threads recording at
+ * once do not contend on a single cache line.  Checking the budget and
+ * withdrawing from it are not one atomic step, so under heavy contention the
+ * budget may be overdrawn by about one retry per racing thread.
+ *
+ * <pre>{@code
+ * static final RetryBudget INVENTORY = new RetryBudget(0.1, 5, Duration.ofSeconds(10));
+ *
+ * static final RetryPolicy POLICY = RetryPolicy
+ *   .exponential(Duration.ofMillis(10), Duration.ofSeconds(1))
+ *   .budget(INVENTORY);
+ * }</pre>
+ */
+public final class RetryBudget
+{
+  private static final int BUCKETS = 10;
+
+  private static final RetryBudget SHARED = new RetryBudget(0.2, 10, Duration.ofSeconds(10));
+
+  private final double ratio;
+
+  private final double reserve;
+
+  private final long bucketNanos;
+
+  private final Bucket[] buckets = new Bucket[BUCKETS];
+
+  /**
+   * @param ratio         Retries allowed per successful call over the window,
+   *                      for example 0.2 to allow one retry per five
+   *                      successes.
+   * @param minPerSecond  Retries per second allowed regardless of the number
+   *                      of successes.
+   * @param window        Length of the sliding window over which successes
+   *                      and retries are counted.
+   *
+   * @throws IllegalArgumentException if the ratio or minimum is negative, or
+   *         the window is not positive.
+   */
+  public RetryBudget( final double ratio, final int minPerSecond, final Duration window )
+  {
+    if ( !( ratio >= 0 ) ) {
+      throw new IllegalArgumentException("ratio must not be negative");
+    }
+
+    if ( minPerSecond < 0 ) {
+      throw new IllegalArgumentException("minPerSecond must not be negative");
+    }
+
+    if ( window.isZero() || window.isNegative() ) {
+      throw new IllegalArgumentException("window must be positive");
+    }
+
+    this.ratio = ratio;
+    this.reserve = minPerSecond * ( window.toNanos() / 1e9 );
+    this.bucketNanos = Math.max(1, window.toNanos() / BUCKETS);
+
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      buckets[i] = new Bucket();
+    }
+  }
+
+  /**
+   * Returns the budget shared by the whole JVM, allowing retries of up to 20%
+   * of successful calls plus 10 per second, over a 10 second window.
+   *
+   * @return The JVM wide retry budget.
+   */
+  public static RetryBudget shared()
+  {
+    return SHARED;
+  }
+
+  /**
+   * Records a successful call, adding to the budget.
+   */
+  public void onSuccess()
+  {
+    bucket().deposits.increment();
+  }
+
+  /**
+   * Withdraws a retry from the budget if one is available.
+   *
+   * @return whether the retry may be made.
+   */
+  public boolean tryRetry()
+  {
+    final long now = System.nanoTime() / bucketNanos;
+
+    long deposits = 0;
+    long withdrawals = 0;
+
+    for ( final Bucket b : buckets ) {
+      if ( b.epoch > now - BUCKETS ) {
+        deposits += b.deposits.sum();
+        withdrawals += b.withdrawals.sum();
+      }
+    }
+
+    if ( withdrawals >= reserve + ratio * deposits ) {
+      return false;
+    }
+
+    bucket().withdrawals.increment();
+    return true;
+  }
+
+  /**
+   * @return The bucket for the current time, recycling it if it last held an
+   *         older time slice.
+   */
+  private Bucket bucket()
+  {
+    final long epoch = System.nanoTime() / bucketNanos;
+    final Bucket b = buckets[(int) Math.floorMod(epoch, (long) BUCKETS)];
+    final long seen = b.epoch;
+
+    // Counts racing with the recycle of a bucket may be lost; the window is a
+    // statistical view, so this is accepted in exchange for staying lock free.
+    if ( seen != epoch && Bucket.EPOCH.compareAndSet(b, seen, epoch) ) {
+      b.deposits.reset();
+      b.withdrawals.reset();
+    }
+
+    return b;
+  }
+
+  private static final class Bucket
+  {
+    static final AtomicLongFieldUpdater < Bucket > EPOCH =
+      AtomicLongFieldUpdater.newUpdater(Bucket.class, "epoch");
+
+    final LongAdder deposits = new LongAdder();
+
+    final LongAdder withdrawals = new LongAdder();
+
+    volatile long epoch = Long.MIN_VALUE;
+  }
+}
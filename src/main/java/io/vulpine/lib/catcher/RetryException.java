@@ -0,0 +1,53 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Exception passed to retry handlers and fallbacks once a {@link RetryPolicy}
+ * gives up on a call.
+ *
+ * The last exception thrown by the retried supplier is available as the
+ * cause of this exception.
+ */
+public class RetryException extends Exception
+{
+  private static final long serialVersionUID = 1L;
+
+  private final int attempts;
+
+  public RetryException( final int attempts, final Exception cause )
+  {
+    super("Gave up after " + attempts + " attempt(s)", cause);
+    this.attempts = attempts;
+  }
+
+  RetryException(
+    final int attempts,
+    final Exception cause,
+    final boolean writableStackTrace
+  )
+  {
+    super(
+      "Gave up after " + attempts + " attempt(s)",
+      cause,
+      true,
+      writableStackTrace
+    );
+    this.attempts = attempts;
+  }
+
+  /**
+   * @return The number of times the supplier was invoked before giving up.
+   */
+  public int attempts()
+  {
+    return attempts;
+  }
+
+  /**
+   * @return The last exception thrown by the retried supplier.
+   */
+  @Override
+  public synchronized Exception getCause()
+  {
+    return (Exception) super.getCause();
+  }
+}
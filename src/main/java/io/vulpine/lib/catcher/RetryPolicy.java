@@ -0,0 +1,425 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * Immutable description of how a call should be retried.
+ *
+ * A policy is intended to be built once and shared across calls and threads.
+ * Running a call under a policy keeps all per-call state in locals, so no
+ * allocation is made per attempt; only giving up allocates the resulting
+ * {@link RetryException}.  Retries are drawn from a shared
+ * {@link RetryBudget}, {@link RetryBudget#shared()} unless another is given,
+ * bounding how much retrying can add to the load on a failing dependency.
+ *
+ * <pre>{@code
+ * static final RetryPolicy POLICY = RetryPolicy
+ *   .exponential(Duration.ofMillis(10), Duration.ofSeconds(1))
+ *   .maxAttempts(5)
+ *   .maxElapsed(Duration.ofSeconds(3))
+ *   .retryOn(e -> e instanceof IOException);
+ * }</pre>
+ */
+public final class RetryPolicy
+{
+  private static final int FIXED = 0;
+
+  private static final int EXPONENTIAL = 1;
+
+  private static final int DECORRELATED = 2;
+
+  private static final Predicate < Exception > ANY = e -> true;
+
+  private final int backoff;
+
+  private final long baseNanos;
+
+  private final long capNanos;
+
+  private final int maxAttempts;
+
+  private final long maxElapsedNanos;
+
+  private final Predicate < ? super Exception > retryable;
+
+  /**
+   * Budget retries are withdrawn from, or null if retries are unbudgeted.
+   */
+  private final RetryBudget budget;
+
+  private RetryPolicy(
+    final int backoff,
+    final long baseNanos,
+    final long capNanos,
+    final int maxAttempts,
+    final long maxElapsedNanos,
+    final Predicate < ? super Exception > retryable,
+    final RetryBudget budget
+  )
+  {
+    this.backoff = backoff;
+    this.baseNanos = baseNanos;
+    this.capNanos = capNanos;
+    this.maxAttempts = maxAttempts;
+    this.maxElapsedNanos = maxElapsedNanos;
+    this.retryable = retryable;
+    this.budget = budget;
+  }
+
+  /**
+   * Creates a policy which waits the same amount of time between each
+   * attempt.
+   *
+   * Defaults to 3 attempts, no elapsed time limit, retrying on any exception,
+   * drawing retries from {@link RetryBudget#shared()}.
+   *
+   * @param delay Time to wait between attempts
+   *
+   * @return A new retry policy.
+   *
+   * @throws IllegalArgumentException if the given delay is negative.
+   */
+  public static RetryPolicy fixed( final Duration delay )
+  {
+    final long nanos = delay.toNanos();
+
+    checkDelays(nanos, nanos);
+
+    return new RetryPolicy(
+      FIXED,
+      nanos,
+      nanos,
+      3,
+      Long.MAX_VALUE,
+      ANY,
+      RetryBudget.shared()
+    );
+  }
+
+  /**
+   * Creates a policy which doubles the time waited after each attempt,
+   * starting at the given base delay and never exceeding the given cap.
+   *
+   * Defaults to 3 attempts, no elapsed time limit, retrying on any exception,
+   * drawing retries from {@link RetryBudget#shared()}.
+   *
+   * @param base Time to wait after the first attempt
+   * @param cap  Maximum time to wait between any two attempts
+   *
+   * @return A new retry policy.
+   *
+   * @throws IllegalArgumentException if either delay is negative, or the base
+   *         delay exceeds the cap.
+   */
+  public static RetryPolicy exponential( final Duration base, final Duration cap )
+  {
+    checkDelays(base.toNanos(), cap.toNanos());
+
+    return new RetryPolicy(
+      EXPONENTIAL,
+      base.toNanos(),
+      cap.toNanos(),
+      3,
+      Long.MAX_VALUE,
+      ANY,
+      RetryBudget.shared()
+    );
+  }
+
+  /**
+   * Creates a policy using "decorrelated jitter" backoff, where each wait is
+   * chosen uniformly between the base delay and three times the previous
+   * wait, never exceeding the given cap.
+   *
+   * This spreads out retries from many concurrent callers far better than
+   * plain exponential backoff, while still growing the wait over time.
+   *
+   * Defaults to 3 attempts, no elapsed time limit, retrying on any exception,
+   * drawing retries from {@link RetryBudget#shared()}.
+   *
+   * @param base Minimum time to wait between attempts
+   * @param cap  Maximum time to wait between any two attempts
+   *
+   * @return A new retry policy.
+   *
+   * @throws IllegalArgumentException if either delay is negative, or the base
+   *         delay exceeds the cap.
+   */
+  public static RetryPolicy decorrelatedJitter(
+    final Duration base,
+    final Duration cap
+  ) {
+    checkDelays(base.toNanos(), cap.toNanos());
+
+    return new RetryPolicy(
+      DECORRELATED,
+      base.toNanos(),
+      cap.toNanos(),
+      3,
+      Long.MAX_VALUE,
+      ANY,
+      RetryBudget.shared()
+    );
+  }
+
+  /**
+   * @param attempts Maximum number of times to invoke the supplier, including
+   *                 the first attempt.
+   *
+   * @return A copy of this policy with the given attempt limit.
+   *
+   * @throws IllegalArgumentException if the given attempt limit is less than
+   *         1.
+   */
+  public RetryPolicy maxAttempts( final int attempts )
+  {
+    if ( attempts < 1 ) {
+      throw new IllegalArgumentException("maxAttempts must be at least 1");
+    }
+
+    return new RetryPolicy(
+      backoff,
+      baseNanos,
+      capNanos,
+      attempts,
+      maxElapsedNanos,
+      retryable,
+      budget
+    );
+  }
+
+  /**
+   * Limits the total time spent retrying.  A retry is not attempted if waiting
+   * for it would exceed this limit, measured from the start of the first
+   * attempt.
+   *
+   * @param elapsed Maximum time spent on a single call
+   *
+   * @return A copy of this policy with the given elapsed time limit.
+   */
+  public RetryPolicy maxElapsed( final Duration elapsed )
+  {
+    return new RetryPolicy(
+      backoff,
+      baseNanos,
+      capNanos,
+      maxAttempts,
+      elapsed.toNanos(),
+      retryable,
+      budget
+    );
+  }
+
+  /**
+   * @param predicate Test deciding whether a failure may be retried.
+   *                  Failures not matching this predicate end the call
+   *                  immediately.
+   *
+   * @return A copy of this policy with the given retry predicate.
+   */
+  public RetryPolicy retryOn( final Predicate < ? super Exception > predicate )
+  {
+    return new RetryPolicy(
+      backoff,
+      baseNanos,
+      capNanos,
+      maxAttempts,
+      maxElapsedNanos,
+      Objects.requireNonNull(predicate),
+      budget
+    );
+  }
+
+  /**
+   * Makes retries under this policy draw from the given budget in place of
+   * {@link RetryBudget#shared()}.  Each successful call deposits into the
+   * budget, and a call gives up, rather than retrying, once the budget is
+   * exhausted.
+   *
+   * @param budget Retry budget, usually shared between policies
+   *
+   * @return A copy of this policy drawing retries from the given budget.
+   *
+   * @see #unbudgeted()
+   */
+  public RetryPolicy budget( final RetryBudget budget )
+  {
+    return new RetryPolicy(
+      backoff,
+      baseNanos,
+      capNanos,
+      maxAttempts,
+      maxElapsedNanos,
+      retryable,
+      Objects.requireNonNull(budget)
+    );
+  }
+  /**
+   * Lets retries under this policy be made without drawing from any budget,
+   * limited only by the attempt and elapsed time limits.  Only suitable for
+   * calls whose retries cannot add meaningful load to a failing dependency.
+   *
+   * @return A copy of this policy which does not use a retry budget.
+   *
+   * @see #budget(RetryBudget)
+   */
+  public RetryPolicy unbudgeted()
+  {
+    return new RetryPolicy(
+      backoff,
+      baseNanos,
+      capNanos,
+      maxAttempts,
+      maxElapsedNanos,
+      retryable,
+      null
+    );
+  }
+
+  /**
+   * @return The budget retries under this policy are drawn from, or null if
+   *         they are unbudgeted.
+   */
+  RetryBudget budget()
+  {
+    return budget;
+  }
+
+
+  /**
+   * Invokes the given supplier until it succeeds or this policy gives up.
+   *
+   * @param supplier Supplier to attempt
+   *
+   * @param <R> Supplier return type.
+   *
+   * @return The first successful result of the supplier.
+   *
+   * @throws RetryException if the policy gave up.  The last failure is
+   *         available as the cause.
+   */
+  < R > R execute( final CheckedSupplier < R > supplier ) throws RetryException
+  {
+    final long start = System.nanoTime();
+
+    long delay = baseNanos;
+    int attempt = 0;
+
+    while ( true ) {
+      attempt++;
+
+      final R out;
+
+      try {
+        out = supplier.get();
+      } catch ( final Exception e ) {
+        Flight.caught(null, e);
+
+        if ( attempt >= maxAttempts || !retryable.test(e) ) {
+          throw Exceptions.retry(attempt, e);
+        }
+
+        delay = nextDelay(attempt, delay);
+
+        if ( System.nanoTime() - start + delay > maxElapsedNanos ) {
+          throw Exceptions.retry(attempt, e);
+        }
+
+        // Checked last, so that a retry is only withdrawn from the budget
+        // when it will actually be made.
+        if ( budget != null && !budget.tryRetry() ) {
+          throw Exceptions.retry(attempt, e);
+        }
+
+        if ( !pause(delay) ) {
+          Thread.currentThread().interrupt();
+          throw Exceptions.retry(attempt, e);
+        }
+
+        continue;
+      }
+
+      if ( budget != null ) {
+        budget.onSuccess();
+      }
+
+      return out;
+    }
+  }
+
+  /**
+   * @param baseNanos Smallest delay in nanoseconds
+   * @param capNanos  Largest delay in nanoseconds
+   *
+   * @throws IllegalArgumentException if either delay is negative, or the base
+   *         delay exceeds the cap.
+   */
+  private static void checkDelays( final long baseNanos, final long capNanos )
+  {
+    if ( baseNanos < 0 || capNanos < 0 ) {
+      throw new IllegalArgumentException("delays must not be negative");
+    }
+
+    if ( baseNanos > capNanos ) {
+      throw new IllegalArgumentException("base delay must not exceed the cap");
+    }
+  }
+
+  /**
+   * @param attempt  Number of attempts made so far
+   * @param previous Previous delay in nanoseconds
+   *
+   * @return The time in nanoseconds to wait before the next attempt.
+   */
+  long nextDelay( final int attempt, final long previous )
+  {
+    switch ( backoff ) {
+      case EXPONENTIAL:
+        // Saturate rather than overflow once the shift gets large.
+        if ( attempt > 62 || baseNanos > ( capNanos >> ( attempt - 1 ) ) ) {
+          return capNanos;
+        }
+        return baseNanos << ( attempt - 1 );
+
+      case DECORRELATED:
+        // Clamp so the exclusive bound below cannot overflow.
+        final long upper = previous > Long.MAX_VALUE / 3
+          ? Math.min(capNanos, Long.MAX_VALUE - 1)
+          : Math.min(capNanos, previous * 3);
+        return upper <= baseNanos
+          ? baseNanos
+          : ThreadLocalRandom.current().nextLong(baseNanos, upper + 1);
+
+      default:
+        return baseNanos;
+    }
+  }
+
+  /**
+   * Parks the current thread for the given time.
+   *
+   * @param nanos Time to wait in nanoseconds
+   *
+   * @return false if the thread was interrupted while waiting.
+   */
+  private static boolean pause( final long nanos )
+  {
+    final long deadline = System.nanoTime() + nanos;
+
+    for ( long left = nanos; left > 0; left = deadline - System.nanoTime() ) {
+      LockSupport.parkNanos(left);
+
+      if ( Thread.interrupted() ) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,30 @@
+package io.vulpine.lib.catcher;
+
+/**
+ * Base class for exceptions used to signal expected failures.
+ *
+ * Instances never record a stack trace, which makes them cheap enough to
+ * create and throw on hot paths, for example from a supplier signalling a
+ * cache miss or a validation failure to {@link Catcher}.  Subclasses should
+ * carry enough context in their message or fields to be diagnosed without
+ * one.
+ */
+public class StacklessException extends Exception
+{
+  private static final long serialVersionUID = 1L;
+
+  public StacklessException()
+  {
+    this(null, null);
+  }
+
+  public StacklessException( final String message )
+  {
+    this(message, null);
+  }
+
+  public StacklessException( final String message, final Throwable cause )
+  {
+    super(message, cause, true, false);
+  }
+}
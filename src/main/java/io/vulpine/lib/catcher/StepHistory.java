@@ -0,0 +1,190 @@
+package io.vulpine.lib.catcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Debug history of the most recent steps applied through {@link Chain} on
+ * the current thread, kept while diagnostics are enabled with
+ * {@link Catcher#instrument(boolean)}.
+ *
+ * Each thread keeps it's own ring of the last {@value #CAPACITY} steps, so
+ * recording takes no lock, allocates nothing once the ring exists, and one
+ * thread's steps never displace another's.  Once a chain has misbehaved, the
+ * thread which ran it can read back which steps ran and how each ended.
+ *
+ * <pre>{@code
+ * Catcher.instrument(true);
+ *
+ * Integer port = Catcher.with(() -> raw)
+ *   .apply(String::trim)
+ *   .apply(Integer::parseInt)
+ *   .orElse(-1);
+ *
+ * StepHistory.recent().forEach(LOG::debug);
+ * }</pre>
+ */
+public final class StepHistory
+{
+  /**
+   * Number of steps remembered per thread.
+   */
+  public static final int CAPACITY = 64;
+
+  private static final ThreadLocal < Ring > RING = ThreadLocal.withInitial(Ring::new);
+
+  private StepHistory() {}
+
+  /**
+   * How a recorded step ended.
+   */
+  public enum Outcome
+  {
+    /**
+     * The step produced a value.
+     */
+    VALUE,
+
+    /**
+     * The step produced no value, emptying the chain.
+     */
+    EMPTY,
+
+    /**
+     * The step threw, or returned a failed {@link Result}.
+     */
+    FAILED
+  }
+
+  /**
+   * @return The steps recorded on the current thread, oldest first.
+   */
+  public static List < Step > recent()
+  {
+    return RING.get().copy();
+  }
+
+  /**
+   * Forgets every step recorded on the current thread.
+   */
+  public static void clear()
+  {
+    RING.get().clear();
+  }
+
+  static void applied( final Object step, final Object next )
+  {
+    RING.get().add(step, next == null ? Outcome.EMPTY : Outcome.VALUE, null);
+  }
+
+  static void failed( final Object step, final Exception e )
+  {
+    RING.get().add(step, Outcome.FAILED, e);
+  }
+
+  static void settled( final Object step, final Result < ? > result )
+  {
+    if ( result != null && result.isFailure() ) {
+      failed(step, ( (Result.Failure < ? >) result ).exception());
+    } else {
+      applied(step, result != null && result.isSuccess() ? result.get() : null);
+    }
+  }
+
+  /**
+   * A single recorded step.
+   */
+  public static final class Step
+  {
+    private final Class < ? > function;
+
+    private final Outcome outcome;
+
+    private final Exception exception;
+
+    private Step(
+      final Class < ? > function,
+      final Outcome outcome,
+      final Exception exception
+    )
+    {
+      this.function = function;
+      this.outcome = outcome;
+      this.exception = exception;
+    }
+
+    /**
+     * @return Class of the step function.
+     */
+    public Class < ? > function()
+    {
+      return function;
+    }
+
+    /**
+     * @return How the step ended.
+     */
+    public Outcome outcome()
+    {
+      return outcome;
+    }
+
+    /**
+     * @return The exception the step failed with, or null if it did not
+     *         fail.
+     */
+    public Exception exception()
+    {
+      return exception;
+    }
+
+    @Override
+    public String toString()
+    {
+      return exception == null
+        ? function.getName() + ": " + outcome
+        : function.getName() + ": " + outcome + " (" + exception + ")";
+    }
+  }
+
+  private static final class Ring
+  {
+    private final Class < ? >[] functions = new Class < ? >[CAPACITY];
+
+    private final Outcome[] outcomes = new Outcome[CAPACITY];
+
+    private final Exception[] exceptions = new Exception[CAPACITY];
+
+    private long count;
+
+    void add( final Object step, final Outcome outcome, final Exception e )
+    {
+      final int i = (int) ( count++ % CAPACITY );
+
+      functions[i] = step.getClass();
+      outcomes[i] = outcome;
+      exceptions[i] = e;
+    }
+
+    List < Step > copy()
+    {
+      final int size = (int) Math.min(count, CAPACITY);
+      final List < Step > out = new ArrayList <>(size);
+
+      for ( long n = count - size; n < count; n++ ) {
+        final int i = (int) ( n % CAPACITY );
+        out.add(new Step(functions[i], outcomes[i], exceptions[i]));
+      }
+
+      return Collections.unmodifiableList(out);
+    }
+
+    void clear()
+    {
+      count = 0;
+      Arrays.fill(exceptions, null);
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package io.vulpine.lib.catcher;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel driving every timeout scheduled by this library from a
+ * single daemon thread.
+ *
+ * Scheduling is lock free: new timeouts are pushed onto a concurrent queue
+ * and moved into their wheel slot by the timer thread on its next tick.
+ * Cancellation is a single CAS; cancelled timeouts are unlinked the next time
+ * the timer thread passes their slot.
+ *
+ * Timeouts fire on the tick following their deadline, so precision is
+ * bounded by the tick length.
+ */
+final class TimerWheel
+{
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final int SLOTS = 512;
+
+  private static final int MASK = SLOTS - 1;
+
+  private static final TimerWheel SHARED = new TimerWheel();
+
+  private final Queue < Timeout > pending = new ConcurrentLinkedQueue <>();
+
+  /**
+   * Sentinel heads of each slot's list.  Only touched by the timer thread.
+   */
+  private final Timeout[] slots = new Timeout[SLOTS];
+
+  private final long start = System.nanoTime();
+
+  private volatile Thread worker;
+
+  private long tick;
+
+  private TimerWheel()
+  {
+    for ( int i = 0; i < SLOTS; i++ ) {
+      final Timeout head = new Timeout(null, 0);
+      head.next = head;
+      head.prev = head;
+      slots[i] = head;
+    }
+  }
+
+  static TimerWheel shared()
+  {
+    return SHARED;
+  }
+
+  /**
+   * Schedules the given task to run on the timer thread once the given delay
+   * has passed.
+   *
+   * The task must be short; it runs on the thread shared by every timeout.
+   *
+   * @param task  Action to run at the deadline
+   * @param nanos Delay before the task is run
+   *
+   * @return Handle which may be used to cancel the task.
+   */
+  Timeout schedule( final Runnable task, final long nanos )
+  {
+    final Timeout t = new Timeout(task, System.nanoTime() + nanos);
+
+    pending.add(t);
+
+    if ( worker == null ) {
+      startWorker();
+    }
+
+    return t;
+  }
+
+  private synchronized void startWorker()
+  {
+    if ( worker != null ) {
+      return;
+    }
+
+    final Thread t = new Thread(this::run, "catcher-timer");
+    t.setDaemon(true);
+    t.start();
+    worker = t;
+  }
+
+  private void run()
+  {
+    try {
+      while ( true ) {
+        final long deadline = start + ( tick + 1 ) * TICK_NANOS;
+
+        for (
+          long left = deadline - System.nanoTime();
+          left > 0;
+          left = deadline - System.nanoTime()
+        ) {
+          LockSupport.parkNanos(this, left);
+        }
+
+        transfer();
+        expire(slots[(int) ( tick & MASK )], deadline);
+        tick++;
+      }
+    } finally {
+      // Should the timer thread die regardless, let the next call to
+      // schedule start a replacement rather than leave every timeout unfired.
+      worker = null;
+    }
+  }
+
+  /**
+   * Moves newly scheduled timeouts into their wheel slots.
+   */
+  private void transfer()
+  {
+    for ( Timeout t = pending.poll(); t != null; t = pending.poll() ) {
+      if ( t.state != Timeout.PENDING ) {
+        continue;
+      }
+
+      final long due = Math.max(tick, ( t.deadline - start ) / TICK_NANOS);
+
+      t.rounds = ( due - tick ) / SLOTS;
+
+      final Timeout head = slots[(int) ( due & MASK )];
+      t.prev = head.prev;
+      t.next = head;
+      head.prev.next = t;
+      head.prev = t;
+    }
+  }
+
+  private static void expire( final Timeout head, final long now )
+  {
+    Timeout t = head.next;
+
+    while ( t != head ) {
+      final Timeout next = t.next;
+
+      if ( t.state != Timeout.PENDING ) {
+        t.unlink();
+      } else if ( t.rounds > 0 ) {
+        t.rounds--;
+      } else if ( t.deadline <= now ) {
+        t.unlink();
+        t.fire();
+      }
+
+      t = next;
+    }
+  }
+
+  /**
+   * Handle for a single scheduled task.
+   */
+  static final class Timeout
+  {
+    static final int PENDING = 0;
+
+    static final int CANCELLED = 1;
+
+    static final int RUNNING = 2;
+
+    static final int DONE = 3;
+
+    private static final AtomicIntegerFieldUpdater < Timeout > STATE =
+      AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private final Runnable task;
+
+    private final long deadline;
+
+    private volatile int state;
+
+    private long rounds;
+
+    private Timeout next;
+
+    private Timeout prev;
+
+    private Timeout( final Runnable task, final long deadline )
+    {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Attempts to cancel this timeout.
+     *
+     * @return true if the timeout was cancelled before it fired, false if the
+     *         task has been or is being run.
+     */
+    boolean cancel()
+    {
+      return STATE.compareAndSet(this, PENDING, CANCELLED);
+    }
+
+    /**
+     * Waits for a task that has already started firing to finish.
+     */
+    void awaitFired()
+    {
+      while ( state == RUNNING ) {
+        Thread.yield();
+      }
+    }
+
+    private void fire()
+    {
+      if ( !STATE.compareAndSet(this, PENDING, RUNNING) ) {
+        return;
+      }
+
+      try {
+        task.run();
+      } catch ( final Throwable ignored ) {
+        // A misbehaving task must not take down the shared timer thread.
+      } finally {
+        state = DONE;
+      }
+    }
+
+    private void unlink()
+    {
+      prev.next = next;
+      next.prev = prev;
+      next = null;
+      prev = null;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Operation on a single double operand producing a double result that may throw a
+ * checked exception.
+ */
+@FunctionalInterface
+public interface CheckedDoubleUnaryOperator
+{
+  /**
+   * @param operand input value
+   *
+   * @return the operator result.
+   *
+   * @throws Exception if the operation failed.
+   */
+  double applyAsDouble( double operand ) throws Exception;
+}
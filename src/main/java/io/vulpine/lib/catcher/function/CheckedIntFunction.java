@@ -0,0 +1,19 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Function accepting a int argument that may throw a checked exception.
+ *
+ * @param <R> Function result type.
+ */
+@FunctionalInterface
+public interface CheckedIntFunction < R >
+{
+  /**
+   * @param value input value
+   *
+   * @return the function result.
+   *
+   * @throws Exception if the function failed.
+   */
+  R apply( int value ) throws Exception;
+}
@@ -0,0 +1,18 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Supplier of int values that may throw a checked exception.
+ *
+ * Primitive specialization of {@link io.vulpine.lib.jcfi.CheckedSupplier}
+ * which avoids boxing the supplied value.
+ */
+@FunctionalInterface
+public interface CheckedIntSupplier
+{
+  /**
+   * @return the supplied value.
+   *
+   * @throws Exception if the value could not be supplied.
+   */
+  int getAsInt() throws Exception;
+}
@@ -0,0 +1,18 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Operation on a single int operand producing a int result that may throw a
+ * checked exception.
+ */
+@FunctionalInterface
+public interface CheckedIntUnaryOperator
+{
+  /**
+   * @param operand input value
+   *
+   * @return the operator result.
+   *
+   * @throws Exception if the operation failed.
+   */
+  int applyAsInt( int operand ) throws Exception;
+}
@@ -0,0 +1,19 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Function accepting a long argument that may throw a checked exception.
+ *
+ * @param <R> Function result type.
+ */
+@FunctionalInterface
+public interface CheckedLongFunction < R >
+{
+  /**
+   * @param value input value
+   *
+   * @return the function result.
+   *
+   * @throws Exception if the function failed.
+   */
+  R apply( long value ) throws Exception;
+}
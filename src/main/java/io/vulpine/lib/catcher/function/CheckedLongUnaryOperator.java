@@ -0,0 +1,18 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Operation on a single long operand producing a long result that may throw a
+ * checked exception.
+ */
+@FunctionalInterface
+public interface CheckedLongUnaryOperator
+{
+  /**
+   * @param operand input value
+   *
+   * @return the operator result.
+   *
+   * @throws Exception if the operation failed.
+   */
+  long applyAsLong( long operand ) throws Exception;
+}
@@ -0,0 +1,19 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Function producing a double result that may throw a checked exception.
+ *
+ * @param <T> Function input type.
+ */
+@FunctionalInterface
+public interface CheckedToDoubleFunction < T >
+{
+  /**
+   * @param value input value
+   *
+   * @return the function result.
+   *
+   * @throws Exception if the function failed.
+   */
+  double applyAsDouble( T value ) throws Exception;
+}
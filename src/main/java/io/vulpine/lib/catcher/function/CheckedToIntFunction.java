@@ -0,0 +1,19 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Function producing a int result that may throw a checked exception.
+ *
+ * @param <T> Function input type.
+ */
+@FunctionalInterface
+public interface CheckedToIntFunction < T >
+{
+  /**
+   * @param value input value
+   *
+   * @return the function result.
+   *
+   * @throws Exception if the function failed.
+   */
+  int applyAsInt( T value ) throws Exception;
+}
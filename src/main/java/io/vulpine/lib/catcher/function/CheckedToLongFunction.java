@@ -0,0 +1,19 @@
+package io.vulpine.lib.catcher.function;
+
+/**
+ * Function producing a long result that may throw a checked exception.
+ *
+ * @param <T> Function input type.
+ */
+@FunctionalInterface
+public interface CheckedToLongFunction < T >
+{
+  /**
+   * @param value input value
+   *
+   * @return the function result.
+   *
+   * @throws Exception if the function failed.
+   */
+  long applyAsLong( T value ) throws Exception;
+}
@@ -0,0 +1,147 @@
+package io.vulpine.lib.catcher;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Consumer;
+
+/**
+ * Java Flight Recorder hooks, emitting the {@code io.vulpine.lib.catcher.*}
+ * events.
+ *
+ * Each hook creates it's event and checks whether it is enabled before doing
+ * anything else, independently of {@link Instrumentation}, so that events
+ * reach any recording which enables them.  The event never escapes, so while
+ * recording is off the JIT removes the allocation and the hook costs a
+ * single enabled check.
+ */
+final class Flight
+{
+  private Flight() {}
+
+  static void caught( final String site, final Exception e )
+  {
+    final ExceptionCaught event = new ExceptionCaught();
+
+    if ( event.isEnabled() ) {
+      emit(event, site, e);
+    }
+  }
+
+  static void fallback( final String site, final Exception e )
+  {
+    final FallbackUsed event = new FallbackUsed();
+
+    if ( event.isEnabled() ) {
+      emit(event, site, e);
+    }
+  }
+
+  static void handle(
+    final String site,
+    final Consumer < ? super Exception > handler,
+    final Exception e
+  ) {
+    final HandlerInvoked event = new HandlerInvoked();
+
+    if ( event.isEnabled() ) {
+      timeHandler(event, site, handler, e);
+    } else {
+      handler.accept(e);
+    }
+  }
+
+  // The event bodies are kept out of the hooks above so that the hooks stay
+  // small enough to always be inlined.
+
+  private static void emit(
+    final ExceptionCaught event,
+    final String site,
+    final Exception e
+  ) {
+    event.site = site;
+    event.exceptionClass = e.getClass();
+    event.message = e.getMessage();
+    event.commit();
+  }
+
+  private static void emit(
+    final FallbackUsed event,
+    final String site,
+    final Exception e
+  ) {
+    event.site = site;
+    event.exceptionClass = e.getClass();
+    event.commit();
+  }
+
+  private static void timeHandler(
+    final HandlerInvoked event,
+    final String site,
+    final Consumer < ? super Exception > handler,
+    final Exception e
+  ) {
+    event.begin();
+
+    try {
+      handler.accept(e);
+    } finally {
+      event.end();
+
+      if ( event.shouldCommit() ) {
+        event.site = site;
+        event.exceptionClass = e.getClass();
+        event.commit();
+      }
+    }
+  }
+
+  @Name("io.vulpine.lib.catcher.ExceptionCaught")
+  @Label("Exception Caught")
+  @Category("Catcher")
+  @Description("An exception thrown by a guarded call was caught")
+  @StackTrace(false)
+  static final class ExceptionCaught extends Event
+  {
+    @Label("Call Site")
+    String site;
+
+    @Label("Exception Class")
+    Class < ? > exceptionClass;
+
+    @Label("Message")
+    String message;
+  }
+
+  @Name("io.vulpine.lib.catcher.FallbackUsed")
+  @Label("Fallback Used")
+  @Category("Catcher")
+  @Description("A fallback value was used in place of a failed call's result")
+  @StackTrace(false)
+  static final class FallbackUsed extends Event
+  {
+    @Label("Call Site")
+    String site;
+
+    @Label("Exception Class")
+    Class < ? > exceptionClass;
+  }
+
+  @Name("io.vulpine.lib.catcher.HandlerInvoked")
+  @Label("Handler Invoked")
+  @Category("Catcher")
+  @Description("An exception handler ran; the event duration is the time spent in the handler")
+  @StackTrace(false)
+  static final class HandlerInvoked extends Event
+  {
+    @Label("Call Site")
+    String site;
+
+    @Label("Exception Class")
+    Class < ? > exceptionClass;
+  }
+}
@@ -0,0 +1,157 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveLimiterTest
+{
+  private static final Duration SLOW = Duration.ofSeconds(10);
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @After
+  public void stop()
+  {
+    release.countDown();
+  }
+
+  @Test
+  public void rejectsCallsOverTheLimit() throws Exception
+  {
+    final AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 10, SLOW);
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    final Thread holder = hold(limiter);
+
+    assertEquals("rejected", limiter.call(() -> "ok", seen::set, () -> "rejected"));
+    assertTrue(seen.get() instanceof LimitExceededException);
+
+    release.countDown();
+    holder.join();
+
+    assertEquals(0, limiter.inFlight());
+  }
+
+  @Test
+  public void growsOnlyWhileAtLeastHalfFull()
+  {
+    final AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 10, SLOW);
+
+    limiter.call(() -> "ok", e -> "fallback");
+    assertEquals(2, limiter.limit());
+
+    // A single caller keeps raising the limit, by 1/limit a call, only until
+    // the limit passes twice the calls in flight: 2, 2.5, 2.9.
+    for ( int i = 0; i < 20; i++ ) {
+      assertEquals("ok", limiter.call(() -> "ok", e -> "fallback"));
+    }
+
+    assertEquals(2, limiter.limit());
+  }
+
+  @Test
+  public void neverGrowsPastTheMaximum()
+  {
+    final AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 2, SLOW);
+
+    for ( int i = 0; i < 20; i++ ) {
+      limiter.call(() -> "ok", e -> "fallback");
+    }
+
+    assertEquals(2, limiter.limit());
+  }
+
+  @Test
+  public void failureCutsTheLimit()
+  {
+    final AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 20, SLOW);
+
+    assertEquals("fallback", limiter.call(() -> { throw new IllegalStateException(); }, e -> "fallback"));
+    assertEquals(9, limiter.limit());
+
+    limiter.call(() -> { throw new IllegalStateException(); }, e -> "fallback");
+    assertEquals(8, limiter.limit());
+    assertEquals(0, limiter.inFlight());
+  }
+
+  @Test
+  public void slowSuccessCutsTheLimit()
+  {
+    final AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 20, Duration.ofMillis(5));
+
+    assertEquals("ok", limiter.call(() -> {
+      Thread.sleep(20);
+      return "ok";
+    }, e -> "fallback"));
+    assertEquals(9, limiter.limit());
+  }
+
+  @Test
+  public void callsInFlightTogetherCutOnce() throws Exception
+  {
+    final AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 20, SLOW);
+    final CountDownLatch started = new CountDownLatch(3);
+    final Thread[] callers = new Thread[3];
+
+    for ( int i = 0; i < callers.length; i++ ) {
+      callers[i] = new Thread(() -> limiter.call(() -> {
+        started.countDown();
+        release.await();
+        throw new IllegalStateException();
+      }, e -> null));
+      callers[i].start();
+    }
+
+    started.await();
+    release.countDown();
+
+    for ( final Thread t : callers ) {
+      t.join();
+    }
+
+    assertEquals(9, limiter.limit());
+  }
+
+  @Test
+  public void neverCutsBelowTheMinimum()
+  {
+    final AdaptiveLimiter limiter = new AdaptiveLimiter(2, 2, 10, SLOW);
+
+    for ( int i = 0; i < 5; i++ ) {
+      limiter.call(() -> { throw new IllegalStateException(); }, e -> null);
+    }
+
+    assertEquals(2, limiter.limit());
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsInitialLimitOutsideTheRange()
+  {
+    new AdaptiveLimiter(20, 1, 10, SLOW);
+  }
+
+  /**
+   * Starts a thread holding one slot of the given limiter until released.
+   */
+  private Thread hold( final AdaptiveLimiter limiter ) throws InterruptedException
+  {
+    final CountDownLatch held = new CountDownLatch(1);
+
+    final Thread t = new Thread(() -> limiter.call(() -> {
+      held.countDown();
+      release.await();
+      return null;
+    }, e -> null));
+
+    t.start();
+    held.await();
+
+    return t;
+  }
+}
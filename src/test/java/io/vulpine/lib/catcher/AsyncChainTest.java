@@ -0,0 +1,182 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class AsyncChainTest
+{
+  private static final String THREAD = "async-chain-test";
+
+  private ExecutorService executor;
+
+  @Before
+  public void start()
+  {
+    executor = Executors.newSingleThreadExecutor(r -> new Thread(r, THREAD));
+  }
+
+  @After
+  public void stop()
+  {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void appliesStepsOnTheExecutor() throws Exception
+  {
+    final AtomicReference < String > ran = new AtomicReference <>();
+
+    final Integer out = Catcher.withAsync(() -> "2", executor)
+      .apply(s -> {
+        ran.set(Thread.currentThread().getName());
+        return Integer.parseInt(s);
+      })
+      .orElse(-1)
+      .get(1, TimeUnit.SECONDS);
+
+    assertEquals(Integer.valueOf(2), out);
+    assertEquals(THREAD, ran.get());
+  }
+
+  @Test
+  public void handlerSeesTheOriginalExceptionOnTheExecutor() throws Exception
+  {
+    final IOException thrown = new IOException();
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+    final AtomicReference < String > ran = new AtomicReference <>();
+
+    Catcher.withAsync(() -> "x", executor)
+      .apply(s -> { throw thrown; })
+      .handle(e -> {
+        seen.set(e);
+        ran.set(Thread.currentThread().getName());
+      })
+      .toChain()
+      .get(1, TimeUnit.SECONDS);
+
+    assertSame(thrown, seen.get());
+    assertEquals(THREAD, ran.get());
+  }
+
+  @Test
+  public void toCompletableFutureFailsWithTheOriginalException() throws Exception
+  {
+    final IOException thrown = new IOException();
+
+    final CompletableFuture < String > future = Catcher.< String >withAsync(
+      () -> { throw thrown; },
+      executor
+    ).toCompletableFuture();
+
+    try {
+      future.get(1, TimeUnit.SECONDS);
+      fail("expected the chain's exception");
+    } catch ( final ExecutionException e ) {
+      assertSame(thrown, e.getCause());
+    }
+
+    // join wraps once, in a CompletionException, and only once.
+    try {
+      future.join();
+      fail("expected the chain's exception");
+    } catch ( final RuntimeException e ) {
+      assertSame(thrown, e.getCause());
+    }
+  }
+
+  @Test
+  public void stageFailureIsUnwrapped() throws Exception
+  {
+    final IOException thrown = new IOException();
+    final CompletableFuture < String > failed = new CompletableFuture <>();
+
+    failed.completeExceptionally(thrown);
+
+    final Chain < String > chain = AsyncChain.of(failed, executor)
+      .toChain()
+      .get(1, TimeUnit.SECONDS);
+
+    assertTrue(chain.empty());
+    assertSame(thrown, chain.exception());
+  }
+
+  @Test
+  public void composeContinuesWithTheStageResult() throws Exception
+  {
+    final Integer out = Catcher.withAsync(() -> "2", executor)
+      .compose(s -> CompletableFuture.supplyAsync(() -> Integer.parseInt(s)))
+      .orElse(-1)
+      .get(1, TimeUnit.SECONDS);
+
+    assertEquals(Integer.valueOf(2), out);
+  }
+
+  @Test
+  public void composeTreatsAFailedStageAsAThrowingStep() throws Exception
+  {
+    final IOException thrown = new IOException();
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    final Integer out = Catcher.withAsync(() -> "2", executor)
+      .handle(seen::set)
+      .compose(s -> {
+        final CompletableFuture < Integer > stage = new CompletableFuture <>();
+        stage.completeExceptionally(thrown);
+        return stage;
+      })
+      .orElse(-1)
+      .get(1, TimeUnit.SECONDS);
+
+    assertEquals(Integer.valueOf(-1), out);
+    assertSame(thrown, seen.get());
+  }
+
+  @Test
+  public void settledEmptyChainSkipsFurtherSteps() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final AsyncChain < String > empty = AsyncChain.of(
+      CompletableFuture.completedFuture((String) null),
+      executor
+    );
+
+    final AsyncChain < Integer > applied = empty.apply(s -> {
+      calls.incrementAndGet();
+      return 1;
+    });
+    final AsyncChain < Integer > composed = empty.compose(s -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture(1);
+    });
+
+    assertSame(empty, applied);
+    assertSame(empty, composed);
+    assertFalse(applied.asOptional().get(1, TimeUnit.SECONDS).isPresent());
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  public void emptyChainUsesTheAlternatives() throws Exception
+  {
+    final AsyncChain < String > empty = Catcher.withAsync(() -> "x", executor)
+      .apply(s -> (String) null);
+
+    assertEquals("alt", empty.orElse("alt").get(1, TimeUnit.SECONDS));
+    assertEquals("supplied", empty.orElse(() -> "supplied").get(1, TimeUnit.SECONDS));
+    assertEquals(Optional.empty(), empty.asOptional().get(1, TimeUnit.SECONDS));
+    assertNull(empty.toCompletableFuture().get(1, TimeUnit.SECONDS));
+  }
+}
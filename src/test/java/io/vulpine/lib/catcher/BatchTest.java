@@ -0,0 +1,131 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class BatchTest
+{
+  private static final List < Integer > INPUT = range(1000);
+
+  @Test
+  public void sequentialRecordsEachOutcome()
+  {
+    check(Catcher.callAll(INPUT, BatchTest::halve));
+  }
+
+  @Test
+  public void parallelRecordsEachOutcome()
+  {
+    check(Catcher.callAllParallel(INPUT, BatchTest::halve));
+  }
+
+  @Test
+  public void boundedRecordsEachOutcome()
+  {
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    try {
+      check(Catcher.callAll(INPUT, BatchTest::halve, 4, pool));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void boundedRunsOnCallerWhenExecutorRejects()
+  {
+    final AtomicInteger submitted = new AtomicInteger();
+
+    check(Catcher.callAll(INPUT, BatchTest::halve, 4, task -> {
+      submitted.incrementAndGet();
+      throw new RejectedExecutionException();
+    }));
+
+    assertEquals(1, submitted.get());
+  }
+
+  @Test( timeout = 5_000 )
+  public void boundedFromInsideSaturatedExecutorDoesNotDeadlock() throws Exception
+  {
+    final ExecutorService pool = Executors.newFixedThreadPool(1);
+
+    try {
+      final Future < BatchResult < Integer > > out = pool.submit(
+        () -> Catcher.callAll(Arrays.asList(1, 2, 3), v -> v * 2, 2, pool)
+      );
+
+      final BatchResult < Integer > result = out.get();
+
+      assertEquals(3, result.successCount());
+      assertEquals(Integer.valueOf(6), result.value(2));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void boundedPropagatesError()
+  {
+    final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    try {
+      Catcher.callAll(INPUT, v -> {
+        if ( v == 999 ) {
+          throw new AssertionError("boom");
+        }
+        return v;
+      }, 2, pool);
+      fail("expected the error to propagate");
+    } catch ( final AssertionError e ) {
+      assertEquals("boom", e.getMessage());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static void check( final BatchResult < Integer > result )
+  {
+    assertEquals(INPUT.size(), result.size());
+    assertEquals(INPUT.size() / 2, result.failureCount());
+
+    for ( int i = 0; i < INPUT.size(); i++ ) {
+      if ( i % 2 == 0 ) {
+        assertTrue(result.succeeded(i));
+        assertEquals(Integer.valueOf(i / 2), result.value(i));
+      } else {
+        assertFalse(result.succeeded(i));
+        assertTrue(result.failure(i) instanceof IllegalArgumentException);
+      }
+    }
+  }
+
+  private static Integer halve( final Integer value )
+  {
+    if ( value % 2 != 0 ) {
+      throw new IllegalArgumentException("odd: " + value);
+    }
+
+    return value / 2;
+  }
+
+  private static List < Integer > range( final int size )
+  {
+    final List < Integer > out = new ArrayList <>(size);
+
+    for ( int i = 0; i < size; i++ ) {
+      out.add(i);
+    }
+
+    return out;
+  }
+}
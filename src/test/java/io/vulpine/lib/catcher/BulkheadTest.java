@@ -0,0 +1,139 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class BulkheadTest
+{
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @After
+  public void stop()
+  {
+    release.countDown();
+    Thread.interrupted();
+  }
+
+  @Test
+  public void rejectsCallsOverTheLimit() throws Exception
+  {
+    final Bulkhead bulkhead = new Bulkhead(1);
+
+    final Thread holder = hold(bulkhead);
+
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    assertEquals("rejected", bulkhead.call(() -> "ok", seen::set, () -> "rejected"));
+    assertTrue(seen.get() instanceof LimitExceededException);
+
+    release.countDown();
+    holder.join();
+
+    assertEquals(0, bulkhead.inFlight());
+    assertEquals("ok", bulkhead.call(() -> "ok", e -> "rejected"));
+  }
+
+  @Test
+  public void failedCallReleasesThePermit()
+  {
+    final Bulkhead bulkhead = new Bulkhead(1);
+
+    assertEquals("fallback", bulkhead.call(() -> { throw new IllegalStateException(); }, e -> "fallback"));
+    assertEquals(0, bulkhead.inFlight());
+  }
+
+  @Test
+  public void waitsForAPermitToBeReleased() throws Exception
+  {
+    final Bulkhead bulkhead = new Bulkhead(1, Duration.ofSeconds(5));
+
+    final Thread holder = hold(bulkhead);
+
+    new Thread(() -> {
+      sleep(50);
+      release.countDown();
+    }).start();
+
+    assertEquals("ok", bulkhead.call(() -> "ok", e -> "rejected"));
+    holder.join();
+  }
+
+  @Test
+  public void givesUpWaitingAfterMaxWait() throws Exception
+  {
+    final Bulkhead bulkhead = new Bulkhead(1, Duration.ofMillis(20));
+
+    hold(bulkhead);
+
+    final long start = System.nanoTime();
+
+    assertEquals("rejected", bulkhead.call(() -> "ok", e -> "rejected"));
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+  }
+
+  @Test
+  public void interruptEndsTheWaitAndIsKept() throws Exception
+  {
+    final Bulkhead bulkhead = new Bulkhead(1, Duration.ofSeconds(10));
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+    final AtomicReference < Boolean > interrupted = new AtomicReference <>();
+
+    hold(bulkhead);
+
+    final Thread waiter = new Thread(() -> {
+      bulkhead.call(() -> "ok", seen::set, () -> "rejected");
+      interrupted.set(Thread.currentThread().isInterrupted());
+    });
+
+    waiter.start();
+    Thread.sleep(50);
+    waiter.interrupt();
+    waiter.join(1000);
+
+    assertFalse(waiter.isAlive());
+    assertTrue(seen.get() instanceof LimitExceededException);
+    assertTrue(interrupted.get());
+    assertEquals(1, bulkhead.inFlight());
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsZeroLimit()
+  {
+    new Bulkhead(0);
+  }
+
+  /**
+   * Starts a thread holding one permit of the given bulkhead until released.
+   */
+  private Thread hold( final Bulkhead bulkhead ) throws InterruptedException
+  {
+    final CountDownLatch held = new CountDownLatch(1);
+
+    final Thread t = new Thread(() -> bulkhead.call(() -> {
+      held.countDown();
+      release.await();
+      return null;
+    }, e -> null));
+
+    t.start();
+    held.await();
+
+    return t;
+  }
+
+  private static void sleep( final long millis )
+  {
+    try {
+      Thread.sleep(millis);
+    } catch ( final InterruptedException e ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
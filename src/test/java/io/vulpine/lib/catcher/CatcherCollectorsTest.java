@@ -0,0 +1,123 @@
+package io.vulpine.lib.catcher;
+
+import io.vulpine.lib.jcfi.CheckedFunction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class CatcherCollectorsTest
+{
+  @Test
+  public void splitsResultsFromFailures()
+  {
+    final Partition < List < Integer >, List < Exception > > out = Stream.of("1", "x", "2", "y")
+      .collect(CatcherCollectors.tryMapping(Integer::parseInt));
+
+    assertEquals(Arrays.asList(1, 2), out.successes());
+    assertEquals(2, out.failures().size());
+
+    for ( final Exception e : out.failures() ) {
+      assertTrue(e instanceof NumberFormatException);
+    }
+  }
+
+  @Test
+  public void keepsEncounterOrder()
+  {
+    final Partition < List < Integer >, List < Exception > > out = Stream.of("3", "a", "1", "b", "2")
+      .collect(CatcherCollectors.tryMapping(Integer::parseInt));
+
+    assertEquals(Arrays.asList(3, 1, 2), out.successes());
+    assertTrue(out.failures().get(0).getMessage().contains("\"a\""));
+    assertTrue(out.failures().get(1).getMessage().contains("\"b\""));
+  }
+
+  @Test
+  public void parallelStreamCombinesInEncounterOrder()
+  {
+    final List < String > input = new ArrayList <>();
+
+    for ( int i = 0; i < 10_000; i++ ) {
+      input.add(i % 3 == 0 ? "bad" + i : Integer.toString(i));
+    }
+
+    final Partition < List < Integer >, List < Exception > > out = input.parallelStream()
+      .collect(CatcherCollectors.tryMapping(Integer::parseInt));
+
+    final List < Integer > expected = IntStream.range(0, 10_000)
+      .filter(i -> i % 3 != 0)
+      .boxed()
+      .collect(Collectors.toList());
+
+    assertEquals(expected, out.successes());
+    assertEquals(3334, out.failures().size());
+
+    for ( int i = 0; i < out.failures().size(); i++ ) {
+      assertTrue(out.failures().get(i).getMessage().contains("\"bad" + i * 3 + "\""));
+    }
+  }
+
+  @Test
+  public void passesOutcomesToTheDownstreamCollectors()
+  {
+    final Partition < Set < Integer >, Long > out = Stream.of("1", "1", "x", "2", "y")
+      .parallel()
+      .collect(CatcherCollectors.tryMapping(
+        Integer::parseInt,
+        Collectors.toSet(),
+        Collectors.counting()
+      ));
+
+    assertEquals(2, out.successes().size());
+    assertTrue(out.successes().contains(1));
+    assertTrue(out.successes().contains(2));
+    assertEquals(Long.valueOf(2), out.failures());
+  }
+
+  @Test
+  public void isUnorderedOnlyWhenBothDownstreamsAre()
+  {
+    final CheckedFunction < String, Integer > parse = Integer::parseInt;
+
+    assertFalse(
+      CatcherCollectors.tryMapping(parse)
+        .characteristics()
+        .contains(Collector.Characteristics.UNORDERED)
+    );
+    assertTrue(
+      CatcherCollectors.tryMapping(parse, Collectors.toSet(), Collectors.toSet())
+        .characteristics()
+        .contains(Collector.Characteristics.UNORDERED)
+    );
+  }
+
+  @Test
+  public void downstreamExceptionsPropagate()
+  {
+    final Collector < Integer, ?, List < Integer > > failing = Collector.of(
+      ArrayList::new,
+      ( l, v ) -> { throw new IllegalStateException(); },
+      ( l, r ) -> l
+    );
+
+    try {
+      Stream.of("1").collect(CatcherCollectors.tryMapping(
+        Integer::parseInt,
+        failing,
+        Collectors.toList()
+      ));
+      fail("expected the downstream exception");
+    } catch ( final IllegalStateException e ) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest
+{
+  private static final Duration WINDOW = Duration.ofSeconds(10);
+
+  private static final Duration OPEN_WAIT = Duration.ofMillis(100);
+
+  @Test
+  public void startsClosed()
+  {
+    final CircuitBreaker breaker = new CircuitBreaker(0.5, 4, WINDOW, OPEN_WAIT);
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    assertEquals("ok", breaker.call(() -> "ok", e -> "fallback"));
+  }
+
+  @Test
+  public void tripsOnceMinimumCallsAndRateAreReached()
+  {
+    final CircuitBreaker breaker = new CircuitBreaker(0.5, 4, WINDOW, OPEN_WAIT);
+
+    breaker.call(() -> "ok", e -> "fallback");
+    failOnce(breaker);
+    failOnce(breaker);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+    failOnce(breaker);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+  }
+
+  @Test
+  public void rejectsWithoutCallingTheSupplierWhileOpen()
+  {
+    final CircuitBreaker breaker = open();
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    final String out = breaker.call(
+      () -> {
+        calls.incrementAndGet();
+        return "ok";
+      },
+      seen::set,
+      () -> "fallback"
+    );
+
+    assertEquals("fallback", out);
+    assertEquals(0, calls.get());
+    assertTrue(seen.get() instanceof CircuitOpenException);
+  }
+
+  @Test
+  public void successfulProbeCloses() throws Exception
+  {
+    final CircuitBreaker breaker = open();
+
+    Thread.sleep(OPEN_WAIT.toMillis() + 20);
+
+    assertEquals("ok", breaker.call(() -> "ok", e -> "fallback"));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+  }
+
+  @Test
+  public void failedProbeReopens() throws Exception
+  {
+    final CircuitBreaker breaker = open();
+
+    Thread.sleep(OPEN_WAIT.toMillis() + 20);
+    failOnce(breaker);
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    assertEquals("fallback", breaker.call(() -> "ok", e -> "fallback"));
+  }
+
+  @Test
+  public void onlyOneProbeAtATime() throws Exception
+  {
+    final CircuitBreaker breaker = open();
+    final CountDownLatch probing = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    Thread.sleep(OPEN_WAIT.toMillis() + 20);
+
+    final Thread probe = new Thread(() -> breaker.call(
+      () -> {
+        probing.countDown();
+        release.await();
+        return "ok";
+      },
+      e -> "fallback"
+    ));
+    probe.start();
+    probing.await();
+
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    assertEquals("fallback", breaker.call(() -> "ok", e -> "fallback"));
+
+    release.countDown();
+    probe.join();
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+  }
+
+  @Test
+  public void abandonedProbeIsReplaced() throws Exception
+  {
+    final CircuitBreaker breaker = open();
+    final CountDownLatch probing = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    Thread.sleep(OPEN_WAIT.toMillis() + 20);
+
+    final Thread stuck = new Thread(() -> breaker.call(
+      () -> {
+        probing.countDown();
+        release.await();
+        return "late";
+      },
+      e -> "fallback"
+    ));
+    stuck.start();
+    probing.await();
+
+    Thread.sleep(OPEN_WAIT.toMillis() + 20);
+
+    assertEquals("ok", breaker.call(() -> "ok", e -> "fallback"));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+    release.countDown();
+    stuck.join();
+  }
+
+  @Test
+  public void lateFailuresDoNotHoldBackTheProbe() throws Exception
+  {
+    final CircuitBreaker breaker = new CircuitBreaker(0.5, 2, WINDOW, OPEN_WAIT);
+    final CountDownLatch admitted = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    // A call admitted while closed, which fails only after the breaker opens.
+    final Thread late = new Thread(() -> breaker.call(
+      () -> {
+        admitted.countDown();
+        release.await();
+        throw new IllegalStateException();
+      },
+      e -> "fallback"
+    ));
+    late.start();
+    admitted.await();
+
+    failOnce(breaker);
+    failOnce(breaker);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+    Thread.sleep(OPEN_WAIT.toMillis() / 2);
+    release.countDown();
+    late.join();
+
+    Thread.sleep(OPEN_WAIT.toMillis() / 2 + 20);
+
+    assertEquals("ok", breaker.call(() -> "ok", e -> "fallback"));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+  }
+
+  @Test
+  public void errorsCountAsFailuresAndPropagate()
+  {
+    final CircuitBreaker breaker = new CircuitBreaker(1, 1, WINDOW, OPEN_WAIT);
+
+    try {
+      breaker.call(() -> { throw new AssertionError("boom"); }, e -> "fallback");
+      fail("expected the error to propagate");
+    } catch ( final AssertionError e ) {
+      assertEquals("boom", e.getMessage());
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsFailureRateAboveOne()
+  {
+    new CircuitBreaker(1.5, 1, WINDOW, OPEN_WAIT);
+  }
+
+  private static CircuitBreaker open()
+  {
+    final CircuitBreaker breaker = new CircuitBreaker(1, 1, WINDOW, OPEN_WAIT);
+
+    failOnce(breaker);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+    return breaker;
+  }
+
+  private static void failOnce( final CircuitBreaker breaker )
+  {
+    breaker.call(() -> { throw new IllegalStateException(); }, e -> "fallback");
+  }
+}
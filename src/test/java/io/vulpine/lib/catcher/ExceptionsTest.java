@@ -0,0 +1,106 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+
+public class ExceptionsTest
+{
+  private ExceptionMode previous;
+
+  @Before
+  public void saveMode()
+  {
+    previous = Catcher.exceptionMode();
+  }
+
+  @After
+  public void restoreMode()
+  {
+    Catcher.exceptionMode(previous);
+  }
+
+  @Test
+  public void fullModeRecordsStackTraces()
+  {
+    Catcher.exceptionMode(ExceptionMode.FULL);
+
+    assertNotSame(Exceptions.empty(), Exceptions.empty());
+    assertTrue(Exceptions.empty().getStackTrace().length > 0);
+  }
+
+  @Test
+  public void stacklessModeSkipsStackTraces()
+  {
+    Catcher.exceptionMode(ExceptionMode.STACKLESS);
+
+    assertNotSame(Exceptions.empty(), Exceptions.empty());
+    assertEquals(0, Exceptions.empty().getStackTrace().length);
+    assertEquals(0, Exceptions.timeout("t", null).getStackTrace().length);
+  }
+
+  @Test
+  public void preallocatedModeSharesEmpty()
+  {
+    Catcher.exceptionMode(ExceptionMode.PREALLOCATED);
+
+    assertSame(Exceptions.empty(), Exceptions.empty());
+  }
+
+  @Test
+  public void sharedEmptyCannotBeChangedByACaller()
+  {
+    Catcher.exceptionMode(ExceptionMode.PREALLOCATED);
+
+    final EmptyResultException shared = Exceptions.empty();
+
+    shared.addSuppressed(new IllegalStateException());
+    assertEquals(0, Exceptions.empty().getSuppressed().length);
+
+    try {
+      shared.initCause(new IllegalStateException());
+      fail("expected the cause to be fixed");
+    } catch ( final IllegalStateException expected ) {
+      assertNull(Exceptions.empty().getCause());
+    }
+  }
+
+  @Test
+  public void preallocatedModeCreatesTimeoutsPerCall()
+  {
+    Catcher.exceptionMode(ExceptionMode.PREALLOCATED);
+
+    final TimeoutException first = Exceptions.timeout("t", null);
+
+    first.addSuppressed(new IllegalStateException());
+
+    assertNotSame(first, Exceptions.timeout("t", null));
+    assertEquals(0, Exceptions.timeout("t", null).getSuppressed().length);
+  }
+
+  @Test
+  public void timeoutKeepsCause()
+  {
+    final IllegalStateException cause = new IllegalStateException();
+
+    for ( final ExceptionMode mode : ExceptionMode.values() ) {
+      Catcher.exceptionMode(mode);
+      assertSame(cause, Exceptions.timeout("t", cause).getCause());
+    }
+  }
+
+  @Test
+  public void failedKeepsCause()
+  {
+    final IllegalStateException cause = new IllegalStateException();
+
+    for ( final ExceptionMode mode : ExceptionMode.values() ) {
+      Catcher.exceptionMode(mode);
+      assertSame(cause, Exceptions.failed(cause).getCause());
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class HandlerTableTest
+{
+  private final List < String > seen = new ArrayList <>();
+
+  @Test
+  public void dispatchesToTheMostSpecificClass()
+  {
+    final HandlerTable table = HandlerTable.create()
+      .on(IOException.class, e -> seen.add("io"))
+      .on(FileNotFoundException.class, e -> seen.add("missing"))
+      .on(Exception.class, e -> seen.add("any"));
+
+    table.accept(new FileNotFoundException());
+    table.accept(new IOException());
+    table.accept(new IllegalStateException());
+
+    assertEquals(3, seen.size());
+    assertEquals("missing", seen.get(0));
+    assertEquals("io", seen.get(1));
+    assertEquals("any", seen.get(2));
+  }
+
+  @Test
+  public void walksUpToTheNearestRegisteredSuperclass()
+  {
+    final HandlerTable table = HandlerTable.create()
+      .on(IOException.class, e -> seen.add("io"))
+      .on(RuntimeException.class, e -> seen.add("runtime"));
+
+    table.accept(new EOFException());
+    table.accept(new IllegalArgumentException());
+
+    assertEquals("io", seen.get(0));
+    assertEquals("runtime", seen.get(1));
+  }
+
+  @Test
+  public void unmatchedExceptionsGoToTheDefault()
+  {
+    final HandlerTable table = HandlerTable.create()
+      .on(IOException.class, e -> seen.add("io"))
+      .otherwise(e -> seen.add("default"));
+
+    table.accept(new IllegalStateException());
+
+    assertEquals(1, seen.size());
+    assertEquals("default", seen.get(0));
+  }
+
+  @Test
+  public void unmatchedExceptionsAreIgnoredWithoutADefault()
+  {
+    final HandlerTable table = HandlerTable.create()
+      .on(IOException.class, e -> seen.add("io"));
+
+    table.accept(new IllegalStateException());
+
+    assertTrue(seen.isEmpty());
+  }
+
+  @Test
+  public void reregisteringAClassReplacesItsHandler()
+  {
+    final HandlerTable table = HandlerTable.create()
+      .on(IOException.class, e -> seen.add("first"))
+      .on(IOException.class, e -> seen.add("second"));
+
+    table.accept(new IOException());
+
+    assertEquals(1, seen.size());
+    assertEquals("second", seen.get(0));
+  }
+
+  @Test
+  public void derivedTablesDoNotShareResolvedHandlers()
+  {
+    final HandlerTable base = HandlerTable.create()
+      .on(IOException.class, e -> seen.add("io"));
+
+    // Resolve, and so cache, EOFException in the base table first.
+    base.accept(new EOFException());
+
+    final HandlerTable derived = base.on(EOFException.class, e -> seen.add("eof"));
+
+    derived.accept(new EOFException());
+    base.accept(new EOFException());
+
+    assertEquals(3, seen.size());
+    assertEquals("io", seen.get(0));
+    assertEquals("eof", seen.get(1));
+    assertEquals("io", seen.get(2));
+  }
+
+  @Test
+  public void cachedResolutionKeepsDispatching()
+  {
+    final HandlerTable table = HandlerTable.create()
+      .on(IOException.class, e -> seen.add("io"))
+      .otherwise(e -> seen.add("default"));
+
+    for ( int i = 0; i < 3; i++ ) {
+      table.accept(new EOFException());
+      table.accept(new IllegalStateException());
+    }
+
+    assertEquals(6, seen.size());
+
+    for ( int i = 0; i < 6; i += 2 ) {
+      assertEquals("io", seen.get(i));
+      assertEquals("default", seen.get(i + 1));
+    }
+  }
+
+  @Test
+  public void worksAsAChainHandler()
+  {
+    final HandlerTable table = HandlerTable.create()
+      .on(NumberFormatException.class, e -> seen.add("number"));
+
+    final Chain < Integer > chain = Catcher.with(() -> "nope")
+      .handle(table)
+      .apply(Integer::parseInt);
+
+    assertTrue(chain.empty());
+    assertEquals(1, seen.size());
+    assertEquals("number", seen.get(0));
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void rejectsNullHandler()
+  {
+    HandlerTable.create().on(IOException.class, null);
+  }
+}
@@ -0,0 +1,230 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class HedgeTest
+{
+  private static final Duration DELAY = Duration.ofMillis(10);
+
+  private static final StacklessException SHARED = new StacklessException("down");
+
+  private ExecutorService executor;
+
+  private RetryBudget budget;
+
+  @Before
+  public void start()
+  {
+    executor = Executors.newCachedThreadPool();
+    budget = new RetryBudget(1, 100, Duration.ofSeconds(1));
+  }
+
+  @After
+  public void stop()
+  {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void fastPrimarySkipsTheHedge() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final String out = Catcher.hedge(() -> {
+      calls.incrementAndGet();
+      return "primary";
+    }, Duration.ofSeconds(1), budget, executor).orElse("none").get();
+
+    assertEquals("primary", out);
+    Thread.sleep(50);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void slowPrimaryIsHedged() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final String out = Catcher.hedge(() -> {
+      if ( calls.incrementAndGet() == 1 ) {
+        release.await();
+        return "primary";
+      }
+      return "hedge";
+    }, DELAY, budget, executor).orElse("none").get(1, TimeUnit.SECONDS);
+
+    release.countDown();
+
+    assertEquals("hedge", out);
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void failedPrimaryHedgesEarly() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final String out = Catcher.hedge(() -> {
+      if ( calls.incrementAndGet() == 1 ) {
+        throw SHARED;
+      }
+      return "hedge";
+    }, Duration.ofSeconds(10), budget, executor).orElse("none").get(1, TimeUnit.SECONDS);
+
+    assertEquals("hedge", out);
+  }
+
+  @Test
+  public void everyFailureIsKeptWithoutChangingEither() throws Exception
+  {
+    final Chain < String > chain = Catcher.< String >hedge(
+      () -> { throw SHARED; },
+      DELAY,
+      budget,
+      executor
+    ).toChain().get(1, TimeUnit.SECONDS);
+
+    assertTrue(chain.empty());
+    assertTrue(chain.exception() instanceof HedgeException);
+
+    final HedgeException e = (HedgeException) chain.exception();
+
+    assertSame(SHARED, e.first());
+    assertSame(SHARED, e.getCause());
+    assertEquals(0, SHARED.getSuppressed().length);
+  }
+
+  @Test
+  public void spentBudgetSkipsTheEarlyHedge() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final RetryBudget spent = new RetryBudget(0, 0, Duration.ofSeconds(10));
+
+    final Chain < String > chain = Catcher.< String >hedge(() -> {
+      calls.incrementAndGet();
+      throw SHARED;
+    }, DELAY, spent, executor).toChain().get(1, TimeUnit.SECONDS);
+
+    assertSame(SHARED, chain.exception());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void spentBudgetSkipsTheTimedHedge() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final RetryBudget spent = new RetryBudget(0, 0, Duration.ofSeconds(10));
+
+    final String out = Catcher.hedge(() -> {
+      calls.incrementAndGet();
+      Thread.sleep(50);
+      return "primary";
+    }, DELAY, spent, executor).orElse("none").get(1, TimeUnit.SECONDS);
+
+    assertEquals("primary", out);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void callerRunsExecutorDoesNotHoldUpTimeouts() throws Exception
+  {
+    final ThreadPoolExecutor single = new ThreadPoolExecutor(
+      1, 1, 0, TimeUnit.SECONDS,
+      new SynchronousQueue <>(),
+      new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+    final CountDownLatch release = new CountDownLatch(1);
+
+    try {
+      // The primary holds the only thread, so the hedge is run by whichever
+      // thread submits it.
+      Catcher.hedge(() -> {
+        release.await();
+        return "ok";
+      }, DELAY, budget, single);
+
+      Thread.sleep(DELAY.toMillis() * 3);
+
+      final long start = System.nanoTime();
+      final Exception[] seen = new Exception[1];
+
+      Catcher.call(() -> {
+        Thread.sleep(10_000);
+        return null;
+      }, Duration.ofMillis(20), e -> {
+        seen[0] = e;
+        return null;
+      });
+
+      assertTrue(seen[0] instanceof TimeoutException);
+      assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    } finally {
+      release.countDown();
+      single.shutdownNow();
+    }
+  }
+
+  @Test
+  public void directExecutorIsStillHedged() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+
+    // The primary runs on this thread, within the call to hedge.
+    final String out = Catcher.hedge(() -> {
+      if ( calls.incrementAndGet() == 1 ) {
+        Thread.sleep(500);
+        return "primary";
+      }
+      return "hedge";
+    }, DELAY, budget, Runnable::run).orElse("none").get();
+
+    assertEquals("hedge", out);
+  }
+
+  @Test
+  public void siteWithoutHistoryIsNotHedged() throws Exception
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final CallSite site = Catcher.site("hedge-test-" + System.nanoTime());
+
+    final String out = Catcher.hedge(() -> {
+      calls.incrementAndGet();
+      Thread.sleep(50);
+      return "primary";
+    }, site, budget, executor).orElse("none").get(1, TimeUnit.SECONDS);
+
+    assertEquals("primary", out);
+    assertEquals(1, calls.get());
+    assertFalse(site.hedgeDelay().isPresent());
+  }
+
+  @Test
+  public void attemptsFeedOnlyTheHedgeDelay() throws Exception
+  {
+    final CallSite site = Catcher.site("hedge-test-" + System.nanoTime());
+
+    Catcher.instrument(false);
+
+    for ( int i = 0; i < 3; i++ ) {
+      Catcher.hedge(() -> "ok", site, budget, executor).orElse("none").get(1, TimeUnit.SECONDS);
+    }
+
+    assertEquals(3, site.attemptLatency().snapshot().count());
+    assertEquals(0, site.successLatency().snapshot().count());
+  }
+}
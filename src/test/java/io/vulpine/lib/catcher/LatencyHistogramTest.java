@@ -0,0 +1,206 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest
+{
+  /**
+   * Half of a sub-bucket's width, relative to the smallest value in it.
+   */
+  private static final double ERROR = 1.0 / 32;
+
+  @Test
+  public void smallValuesHaveTheirOwnBuckets()
+  {
+    for ( int i = 0; i < 16; i++ ) {
+      assertEquals(i, LatencyHistogram.index(i));
+      assertEquals(i, LatencyHistogram.lowest(i));
+      assertEquals(i, LatencyHistogram.highest(i));
+    }
+  }
+
+  @Test
+  public void indexAndLowestAgreeAtEveryBucketBoundary()
+  {
+    for ( int i = 0; i < LatencyHistogram.BUCKETS; i++ ) {
+      final long lo = LatencyHistogram.lowest(i);
+      final long hi = LatencyHistogram.highest(i);
+
+      assertEquals(i, LatencyHistogram.index(lo));
+      assertEquals(i, LatencyHistogram.index(hi));
+
+      if ( i > 0 ) {
+        assertEquals(lo - 1, LatencyHistogram.highest(i - 1));
+      }
+    }
+  }
+
+  @Test
+  public void everyLongHasABucket()
+  {
+    assertEquals(0, LatencyHistogram.index(0));
+    assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+    assertEquals(Long.MAX_VALUE, LatencyHistogram.highest(LatencyHistogram.BUCKETS - 1));
+  }
+
+  @Test
+  public void bucketsStayWithinTheRelativeError()
+  {
+    for ( int i = 16; i < LatencyHistogram.BUCKETS; i++ ) {
+      final long lo = LatencyHistogram.lowest(i);
+      final long hi = LatencyHistogram.highest(i);
+
+      assertTrue((double) ( hi - lo ) / 2 / lo <= ERROR);
+    }
+  }
+
+  @Test
+  public void negativeValuesAreRecordedAsZero()
+  {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(-5);
+
+    assertEquals(1, histogram.counts()[0]);
+    assertEquals(Duration.ZERO, histogram.snapshot().max());
+  }
+
+  @Test
+  public void percentileSelectsTheBucketHoldingTheRank()
+  {
+    final long[] counts = new long[LatencyHistogram.BUCKETS];
+
+    counts[1] = 1;
+    counts[2] = 2;
+    counts[3] = 1;
+
+    final LatencySnapshot snapshot = new LatencySnapshot(counts);
+
+    assertEquals(4, snapshot.count());
+    assertEquals(Duration.ofNanos(1), snapshot.percentile(0));
+    assertEquals(Duration.ofNanos(1), snapshot.percentile(25));
+    assertEquals(Duration.ofNanos(2), snapshot.percentile(26));
+    assertEquals(Duration.ofNanos(2), snapshot.percentile(75));
+    assertEquals(Duration.ofNanos(3), snapshot.percentile(76));
+    assertEquals(Duration.ofNanos(3), snapshot.percentile(100));
+    assertEquals(Duration.ofNanos(3), snapshot.max());
+  }
+
+  @Test
+  public void emptySnapshotReportsZero()
+  {
+    final LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+    assertEquals(0, snapshot.count());
+    assertEquals(Duration.ZERO, snapshot.p99());
+    assertEquals(Duration.ZERO, snapshot.max());
+  }
+
+  @Test
+  public void uniformDistributionIsWithinTheError()
+  {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    for ( long i = 1; i <= 100_000; i++ ) {
+      histogram.record(i * 1_000);
+    }
+
+    final LatencySnapshot snapshot = histogram.snapshot();
+
+    assertEquals(100_000, snapshot.count());
+    assertWithin(50_000_000L, snapshot.p50());
+    assertWithin(99_000_000L, snapshot.p99());
+    assertWithin(99_900_000L, snapshot.p999());
+    assertWithin(100_000_000L, snapshot.max());
+  }
+
+  @Test
+  public void exponentialDistributionIsWithinTheError()
+  {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    final Random random = new Random(42);
+    final long[] values = new long[200_000];
+
+    for ( int i = 0; i < values.length; i++ ) {
+      values[i] = (long) ( -Math.log(1 - random.nextDouble()) * 1_000_000 );
+      histogram.record(values[i]);
+    }
+
+    Arrays.sort(values);
+
+    final LatencySnapshot snapshot = histogram.snapshot();
+
+    assertWithin(values[values.length / 2 - 1], snapshot.p50());
+    assertWithin(values[values.length * 99 / 100 - 1], snapshot.p99());
+    assertWithin(values[values.length * 999 / 1000 - 1], snapshot.p999());
+  }
+
+  @Test
+  public void deltaSubtractsBucketByBucket()
+  {
+    final long[] previous = new long[LatencyHistogram.BUCKETS];
+    final long[] current = new long[LatencyHistogram.BUCKETS];
+
+    previous[3] = 2;
+    current[3] = 5;
+    current[100] = 1;
+
+    final long[] delta = LatencyHistogram.delta(current, previous);
+
+    assertEquals(3, delta[3]);
+    assertEquals(1, delta[100]);
+    assertEquals(4, new LatencySnapshot(delta).count());
+  }
+
+  @Test
+  public void intervalSnapshotCoversOnlyTheLastInterval()
+  {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(1_000);
+    histogram.record(1_000);
+
+    assertEquals(2, histogram.intervalSnapshot().count());
+
+    histogram.record(1_000_000);
+
+    final LatencySnapshot interval = histogram.intervalSnapshot();
+
+    assertEquals(1, interval.count());
+    assertWithin(1_000_000L, interval.p50());
+    assertEquals(0, histogram.intervalSnapshot().count());
+    assertEquals(3, histogram.snapshot().count());
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsPercentileAboveOneHundred()
+  {
+    new LatencyHistogram().snapshot().percentile(100.1);
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsNaNPercentile()
+  {
+    new LatencyHistogram().snapshot().percentile(Double.NaN);
+  }
+
+  /**
+   * Asserts the reported latency is within the histogram's relative error of
+   * the expected value.
+   */
+  private static void assertWithin( final long expected, final Duration actual )
+  {
+    final double error = Math.abs(actual.toNanos() - expected) / (double) expected;
+
+    assertTrue(
+      "expected " + expected + "ns, got " + actual.toNanos() + "ns",
+      error <= ERROR
+    );
+  }
+}
@@ -0,0 +1,126 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LazyChainTest
+{
+  @Test
+  public void runsStepsPerInput()
+  {
+    final LazyChain < String, Integer > parse = Chain.< String >template()
+      .apply(String::trim)
+      .apply(Integer::parseInt);
+
+    assertEquals(Integer.valueOf(80), parse.get(" 80 "));
+    assertEquals(Integer.valueOf(443), parse.get("443"));
+  }
+
+  @Test
+  public void nothingRunsUntilATerminalOperation()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final LazyChain < Integer, Integer > counted = LazyChain.< Integer >start()
+      .apply(i -> calls.incrementAndGet());
+
+    assertEquals(0, calls.get());
+    counted.orElse(1, 0);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void nullEmptiesAndSkipsLaterSteps()
+  {
+    final AtomicInteger later = new AtomicInteger();
+
+    final LazyChain < String, Integer > pipeline = LazyChain.< String >start()
+      .apply(s -> (String) null)
+      .apply(s -> later.incrementAndGet());
+
+    assertEquals(Integer.valueOf(-1), pipeline.orElse("x", -1));
+    assertEquals(Optional.empty(), pipeline.asOptional("x"));
+    assertTrue(pipeline.run("x").empty());
+    assertEquals(0, later.get());
+  }
+
+  @Test
+  public void laterHandlerReceivesEarlierException()
+  {
+    final List < Exception > seen = new ArrayList <>();
+
+    final LazyChain < String, Integer > pipeline = LazyChain.< String >start()
+      .apply(Integer::parseInt)
+      .handle(seen::add);
+
+    assertEquals(Integer.valueOf(-1), pipeline.orElse("nope", -1));
+    assertEquals(1, seen.size());
+    assertTrue(seen.get(0) instanceof NumberFormatException);
+  }
+
+  @Test
+  public void exceptionGoesToHandlerInEffectWhenThrown()
+  {
+    final List < String > seen = new ArrayList <>();
+
+    final LazyChain < String, Integer > pipeline = LazyChain.< String >start()
+      .handle(e -> seen.add("first"))
+      .apply(Integer::parseInt)
+      .handle(e -> seen.add("second"));
+
+    pipeline.orElse("nope", -1);
+
+    assertEquals(1, seen.size());
+    assertEquals("first", seen.get(0));
+  }
+
+  @Test
+  public void unhandledExceptionIsKeptByRun()
+  {
+    final LazyChain < String, Integer > pipeline = LazyChain.< String >start()
+      .apply(Integer::parseInt);
+
+    final Chain < Integer > chain = pipeline.run("nope");
+
+    assertTrue(chain.empty());
+    assertTrue(chain.exception() instanceof NumberFormatException);
+  }
+
+  @Test
+  public void appendingLeavesTheOriginalUnchanged()
+  {
+    final List < Exception > seen = new ArrayList <>();
+
+    final LazyChain < String, Integer > parse = LazyChain.< String >start()
+      .apply(Integer::parseInt);
+    final LazyChain < String, Integer > handled = parse.handle(seen::add);
+    final LazyChain < String, Integer > doubled = parse.apply(i -> i * 2);
+
+    assertEquals(Integer.valueOf(2), parse.get("2"));
+    assertEquals(Integer.valueOf(4), doubled.get("2"));
+    assertTrue(parse.run("nope").exception() instanceof NumberFormatException);
+    assertTrue(doubled.run("nope").exception() instanceof NumberFormatException);
+    assertNull(handled.run("nope").exception());
+    assertEquals(1, seen.size());
+  }
+
+  @Test
+  public void runKeepsTheHandlerForFurtherSteps()
+  {
+    final List < Exception > seen = new ArrayList <>();
+
+    final Chain < Integer > chain = Chain.< String >template()
+      .handle(seen::add)
+      .apply(Integer::parseInt)
+      .run("1");
+
+    assertFalse(chain.apply(i -> { throw new IllegalStateException(); }).present());
+    assertEquals(1, seen.size());
+  }
+}
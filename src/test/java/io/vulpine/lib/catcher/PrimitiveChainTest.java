@@ -0,0 +1,128 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveChainTest
+{
+  @Test
+  public void zeroResultIsPresent()
+  {
+    final IntChain ints = Catcher.with(() -> "0").applyToInt(Integer::parseInt);
+    final LongChain longs = Catcher.with(() -> "0").applyToLong(Long::parseLong);
+    final DoubleChain doubles = Catcher.with(() -> "0").applyToDouble(Double::parseDouble);
+
+    assertTrue(ints.present());
+    assertEquals(0, ints.get());
+    assertEquals(0, ints.orElse(-1));
+    assertTrue(longs.present());
+    assertEquals(0L, longs.orElse(-1L));
+    assertTrue(doubles.present());
+    assertEquals(0D, doubles.orElse(-1D), 0);
+  }
+
+  @Test
+  public void zeroSurvivesFurtherSteps()
+  {
+    final IntChain chain = Catcher.with(() -> "5")
+      .applyToInt(Integer::parseInt)
+      .apply(i -> i - 5)
+      .apply(i -> i * 2);
+
+    assertTrue(chain.present());
+    assertEquals(0, chain.get());
+    assertEquals("0", chain.applyToObj(Integer::toString).get());
+  }
+
+  @Test
+  public void failedStepLeavesNoValue()
+  {
+    final IntChain chain = Catcher.with(() -> "x").applyToInt(Integer::parseInt);
+
+    assertTrue(chain.empty());
+    assertEquals(-1, chain.orElse(-1));
+    assertFalse(chain.asOptional().isPresent());
+  }
+
+  @Test
+  public void pendingExceptionCarriesIntoApplyToInt()
+  {
+    final IOException thrown = new IOException();
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    Catcher.with(() -> "1")
+      .< String >apply(s -> { throw thrown; })
+      .applyToInt(Integer::parseInt)
+      .apply(i -> i + 1)
+      .handle(seen::set);
+
+    assertSame(thrown, seen.get());
+  }
+
+  @Test
+  public void pendingExceptionCarriesIntoApplyToObj()
+  {
+    final IOException thrown = new IOException();
+
+    final Chain < String > chain = Catcher.with(() -> "1")
+      .applyToInt(Integer::parseInt)
+      .apply(i -> { throw thrown; })
+      .applyToObj(Integer::toString);
+
+    assertTrue(chain.empty());
+    assertSame(thrown, chain.exception());
+  }
+
+  @Test
+  public void pendingExceptionCarriesAcrossBothConversions()
+  {
+    final IOException thrown = new IOException();
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    Catcher.with(() -> "1")
+      .< String >apply(s -> { throw thrown; })
+      .applyToLong(Long::parseLong)
+      .applyToObj(Long::toString)
+      .applyToDouble(Double::parseDouble)
+      .handle(seen::set);
+
+    assertSame(thrown, seen.get());
+  }
+
+  @Test
+  public void handlerCarriesIntoThePrimitiveChain()
+  {
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    final IntChain chain = Catcher.with(() -> "1")
+      .handle(seen::set)
+      .applyToInt(Integer::parseInt)
+      .apply(i -> 10 / ( i - 1 ));
+
+    assertTrue(chain.empty());
+    assertTrue(seen.get() instanceof ArithmeticException);
+  }
+
+  @Test
+  public void handlerConsumesTheConversionFailure()
+  {
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    final DoubleChain chain = Catcher.with(() -> "x")
+      .handle(seen::set)
+      .applyToDouble(Double::parseDouble);
+
+    assertTrue(chain.empty());
+    assertTrue(seen.get() instanceof NumberFormatException);
+
+    // The exception was consumed, so a later handler sees nothing.
+    seen.set(null);
+    chain.handle(seen::set);
+
+    assertNull(seen.get());
+  }
+}
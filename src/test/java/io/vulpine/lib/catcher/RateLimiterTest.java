@@ -0,0 +1,128 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class RateLimiterTest
+{
+  @After
+  public void clearInterrupt()
+  {
+    Thread.interrupted();
+  }
+
+  @Test
+  public void allowsABurstThenRejects()
+  {
+    final RateLimiter limiter = new RateLimiter(5, Duration.ofSeconds(10));
+
+    for ( int i = 0; i < 5; i++ ) {
+      assertTrue(limiter.tryAcquire());
+    }
+
+    assertFalse(limiter.tryAcquire());
+  }
+
+  @Test
+  public void refillsAtTheConfiguredRate() throws Exception
+  {
+    final RateLimiter limiter = new RateLimiter(100, Duration.ofSeconds(1), 1);
+
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+
+    Thread.sleep(20);
+
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  public void waitsForTheNextPermit()
+  {
+    final RateLimiter limiter = new RateLimiter(10, Duration.ofSeconds(1), 1);
+
+    assertTrue(limiter.tryAcquire());
+
+    final long start = System.nanoTime();
+
+    assertTrue(limiter.tryAcquire(Duration.ofSeconds(1)));
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  public void rejectsWithoutWaitingWhenThePermitIsTooFarOff()
+  {
+    final RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(10), 1);
+
+    assertTrue(limiter.tryAcquire());
+
+    final long start = System.nanoTime();
+
+    assertFalse(limiter.tryAcquire(Duration.ofMillis(100)));
+    assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  public void interruptEndsTheWaitAndIsKept()
+  {
+    final RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(1), 1);
+
+    assertTrue(limiter.tryAcquire());
+
+    Thread.currentThread().interrupt();
+
+    assertFalse(limiter.tryAcquire(Duration.ofSeconds(5)));
+    assertTrue(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void interruptedWaiterReturnsItsPermit()
+  {
+    final RateLimiter limiter = new RateLimiter(10, Duration.ofSeconds(1), 1);
+
+    assertTrue(limiter.tryAcquire());
+
+    Thread.currentThread().interrupt();
+
+    assertFalse(limiter.tryAcquire(Duration.ofSeconds(5)));
+    assertTrue(Thread.interrupted());
+
+    // Had the interrupted waiter kept it's permit, the next one would be
+    // two intervals off rather than one.
+    assertTrue(limiter.tryAcquire(Duration.ofMillis(150)));
+  }
+
+  @Test
+  public void callFallsBackOnceLimited()
+  {
+    final RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(10));
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+    final AtomicInteger calls = new AtomicInteger();
+
+    assertEquals("ok", Catcher.call(() -> {
+      calls.incrementAndGet();
+      return "ok";
+    }, limiter, Duration.ZERO, seen::set, () -> "limited"));
+
+    assertEquals("limited", Catcher.call(() -> {
+      calls.incrementAndGet();
+      return "ok";
+    }, limiter, Duration.ZERO, seen::set, () -> "limited"));
+
+    assertTrue(seen.get() instanceof LimitExceededException);
+    assertEquals(1, calls.get());
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsZeroPermits()
+  {
+    new RateLimiter(0, Duration.ofSeconds(1));
+  }
+}
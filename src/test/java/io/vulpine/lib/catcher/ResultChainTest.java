@@ -0,0 +1,71 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ResultChainTest
+{
+  private static final StacklessException MISS = new StacklessException("miss");
+
+  @Test
+  public void successContinuesTheChain()
+  {
+    final Chain < Integer > chain = Catcher.withResult(() -> Result.success("2"))
+      .applyResult(s -> Result.success(Integer.parseInt(s)));
+
+    assertEquals(Integer.valueOf(2), chain.get());
+  }
+
+  @Test
+  public void returnedFailureGoesToTheHandler()
+  {
+    final List < Exception > seen = new ArrayList <>();
+
+    final Chain < Integer > chain = Catcher.with(() -> "key")
+      .handle(seen::add)
+      .applyResult(k -> Result.< Integer >failure(MISS));
+
+    assertTrue(chain.empty());
+    assertEquals(1, seen.size());
+    assertSame(MISS, seen.get(0));
+  }
+
+  @Test
+  public void returnedFailureIsHeldWithoutAHandler()
+  {
+    final Chain < Integer > chain = Catcher.withResult(() -> Result.< Integer >failure(MISS));
+
+    assertTrue(chain.empty());
+    assertSame(MISS, chain.exception());
+  }
+
+  @Test
+  public void returnedEmptyEmptiesTheChain()
+  {
+    assertTrue(Catcher.withResult(Result::empty).empty());
+    assertTrue(Catcher.with(() -> 1).applyResult(i -> Result.empty()).empty());
+  }
+
+  @Test
+  public void nullResultFromSupplierEmptiesTheChain()
+  {
+    final Chain < Integer > chain = Catcher.withResult(() -> (Result < Integer >) null);
+
+    assertTrue(chain.empty());
+    assertNull(chain.exception());
+  }
+
+  @Test
+  public void nullResultFromStepEmptiesTheChain()
+  {
+    final Chain < Integer > chain = Catcher.with(() -> 1)
+      .applyResult(i -> (Result < Integer >) null);
+
+    assertTrue(chain.empty());
+    assertNull(chain.exception());
+  }
+}
@@ -0,0 +1,124 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RetryBudgetTest
+{
+  private static final Duration WINDOW = Duration.ofSeconds(10);
+
+  @Test
+  public void reserveAllowsRetriesWithoutSuccesses()
+  {
+    final RetryBudget budget = new RetryBudget(0, 1, Duration.ofSeconds(2));
+
+    assertTrue(budget.tryRetry());
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+  }
+
+  @Test
+  public void successesAllowRetriesAtTheRatio()
+  {
+    final RetryBudget budget = new RetryBudget(0.5, 0, WINDOW);
+
+    assertFalse(budget.tryRetry());
+
+    for ( int i = 0; i < 4; i++ ) {
+      budget.onSuccess();
+    }
+
+    assertTrue(budget.tryRetry());
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+  }
+
+  @Test
+  public void retriesAreForgottenAfterTheWindow() throws Exception
+  {
+    final RetryBudget budget = new RetryBudget(0, 10, Duration.ofMillis(100));
+
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+
+    Thread.sleep(150);
+
+    assertTrue(budget.tryRetry());
+  }
+
+  @Test
+  public void policyGivesUpOnceTheBudgetIsSpent()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final RetryBudget budget = new RetryBudget(0, 1, Duration.ofSeconds(1));
+    final RetryPolicy policy = RetryPolicy.fixed(Duration.ofMillis(1))
+      .maxAttempts(10)
+      .budget(budget);
+
+    final Chain < String > chain = Catcher.retry(() -> {
+      calls.incrementAndGet();
+      throw new IOException();
+    }, policy);
+
+    assertTrue(chain.exception() instanceof RetryException);
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void policyDepositsOnSuccess()
+  {
+    final RetryBudget budget = new RetryBudget(1, 0, WINDOW);
+    final RetryPolicy policy = RetryPolicy.fixed(Duration.ofMillis(1)).budget(budget);
+
+    assertFalse(budget.tryRetry());
+    assertEquals("ok", Catcher.retry(() -> "ok", policy).get());
+    assertTrue(budget.tryRetry());
+  }
+
+  @Test
+  public void policiesDrawFromTheSharedBudgetByDefault()
+  {
+    final RetryBudget own = new RetryBudget(1, 0, WINDOW);
+
+    assertSame(RetryBudget.shared(), RetryPolicy.fixed(Duration.ofMillis(1)).budget());
+    assertSame(RetryBudget.shared(), RetryPolicy.exponential(Duration.ofMillis(1), Duration.ofSeconds(1)).budget());
+    assertSame(RetryBudget.shared(), RetryPolicy.decorrelatedJitter(Duration.ofMillis(1), Duration.ofSeconds(1)).budget());
+    assertSame(own, RetryPolicy.fixed(Duration.ofMillis(1)).budget(own).budget());
+    assertSame(RetryBudget.shared(), RetryPolicy.fixed(Duration.ofMillis(1)).maxAttempts(5).budget());
+  }
+
+  @Test
+  public void unbudgetedPolicyRetriesFreely()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final RetryPolicy policy = RetryPolicy.fixed(Duration.ofMillis(1))
+      .maxAttempts(5)
+      .budget(new RetryBudget(0, 0, WINDOW))
+      .unbudgeted();
+
+    Catcher.retry(() -> {
+      calls.incrementAndGet();
+      throw new IOException();
+    }, policy);
+
+    assertNull(policy.budget());
+    assertEquals(5, calls.get());
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsNegativeRatio()
+  {
+    new RetryBudget(-1, 0, WINDOW);
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsEmptyWindow()
+  {
+    new RetryBudget(0.1, 0, Duration.ZERO);
+  }
+}
@@ -0,0 +1,217 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class RetryPolicyTest
+{
+  private static final RetryPolicy FAST = RetryPolicy.fixed(Duration.ofMillis(1)).unbudgeted();
+
+  @After
+  public void clearInterrupt()
+  {
+    Thread.interrupted();
+  }
+
+  @Test
+  public void retriesUntilSuccess()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final Chain < String > chain = Catcher.retry(() -> {
+      if ( calls.incrementAndGet() < 3 ) {
+        throw new IOException();
+      }
+      return "ok";
+    }, FAST);
+
+    assertEquals("ok", chain.get());
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  public void givesUpAfterMaxAttempts()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final IOException last = new IOException();
+
+    final Chain < String > chain = Catcher.retry(() -> {
+      calls.incrementAndGet();
+      throw last;
+    }, FAST.maxAttempts(4));
+
+    assertTrue(chain.empty());
+    assertTrue(chain.exception() instanceof RetryException);
+    assertEquals(4, ( (RetryException) chain.exception() ).attempts());
+    assertSame(last, chain.exception().getCause());
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  public void stopsOnNonRetryableFailure()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final String out = Catcher.retry(() -> {
+      calls.incrementAndGet();
+      throw new IllegalStateException();
+    }, FAST.retryOn(e -> e instanceof IOException), e -> "fallback");
+
+    assertEquals("fallback", out);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void stopsBeforeExceedingMaxElapsed()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final long start = System.nanoTime();
+
+    Catcher.retry(() -> {
+      calls.incrementAndGet();
+      throw new IOException();
+    }, RetryPolicy.fixed(Duration.ofSeconds(10)).maxElapsed(Duration.ofSeconds(1)).unbudgeted());
+
+    assertEquals(1, calls.get());
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void exponentialBackoffDoublesUpToTheCap()
+  {
+    final RetryPolicy policy = RetryPolicy.exponential(Duration.ofNanos(10), Duration.ofNanos(50));
+
+    assertEquals(10, policy.nextDelay(1, 0));
+    assertEquals(20, policy.nextDelay(2, 10));
+    assertEquals(40, policy.nextDelay(3, 20));
+    assertEquals(50, policy.nextDelay(4, 40));
+    assertEquals(50, policy.nextDelay(100, 50));
+  }
+
+  @Test
+  public void decorrelatedJitterStaysWithinBounds()
+  {
+    final RetryPolicy policy = RetryPolicy.decorrelatedJitter(Duration.ofNanos(10), Duration.ofNanos(100));
+
+    long delay = 10;
+
+    for ( int attempt = 1; attempt < 50; attempt++ ) {
+      final long next = policy.nextDelay(attempt, delay);
+
+      assertTrue(next >= 10);
+      assertTrue(next <= Math.min(100, delay * 3));
+      delay = next;
+    }
+  }
+
+  @Test
+  public void decorrelatedJitterHandlesAnUnboundedCap()
+  {
+    final RetryPolicy policy = RetryPolicy.decorrelatedJitter(
+      Duration.ofNanos(10),
+      Duration.ofNanos(Long.MAX_VALUE)
+    );
+
+    for ( int i = 0; i < 100; i++ ) {
+      assertTrue(policy.nextDelay(60, Long.MAX_VALUE / 2) >= 10);
+      assertTrue(policy.nextDelay(61, Long.MAX_VALUE) >= 10);
+      assertTrue(policy.nextDelay(62, Long.MAX_VALUE / 3) >= 10);
+    }
+  }
+
+  @Test
+  public void baseEqualToTheCapIsAllowed()
+  {
+    final RetryPolicy policy = RetryPolicy.exponential(Duration.ofNanos(10), Duration.ofNanos(10));
+
+    assertEquals(10, policy.nextDelay(3, 10));
+    assertEquals(0, RetryPolicy.fixed(Duration.ZERO).nextDelay(1, 0));
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsNegativeFixedDelay()
+  {
+    RetryPolicy.fixed(Duration.ofMillis(-1));
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsNegativeBase()
+  {
+    RetryPolicy.exponential(Duration.ofMillis(-1), Duration.ofSeconds(1));
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsNegativeCap()
+  {
+    RetryPolicy.decorrelatedJitter(Duration.ZERO, Duration.ofMillis(-1));
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsExponentialBaseAboveTheCap()
+  {
+    RetryPolicy.exponential(Duration.ofSeconds(2), Duration.ofSeconds(1));
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsJitterBaseAboveTheCap()
+  {
+    RetryPolicy.decorrelatedJitter(Duration.ofSeconds(2), Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void interruptEndsTheBackoffAndIsKept() throws Exception
+  {
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+    final AtomicReference < Boolean > interrupted = new AtomicReference <>();
+    final AtomicInteger calls = new AtomicInteger();
+
+    final Thread caller = new Thread(() -> {
+      Catcher.retry(() -> {
+        calls.incrementAndGet();
+        throw new IOException();
+      }, RetryPolicy.fixed(Duration.ofSeconds(10)).unbudgeted(), seen::set, () -> null);
+
+      interrupted.set(Thread.currentThread().isInterrupted());
+    });
+
+    caller.start();
+    Thread.sleep(50);
+    caller.interrupt();
+    caller.join(1000);
+
+    assertFalse(caller.isAlive());
+    assertTrue(seen.get() instanceof RetryException);
+    assertEquals(1, calls.get());
+    assertTrue(interrupted.get());
+  }
+
+  @Test
+  public void pendingInterruptStopsRetrying()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+
+    Thread.currentThread().interrupt();
+
+    Catcher.retry(() -> {
+      calls.incrementAndGet();
+      throw new IOException();
+    }, FAST);
+
+    assertEquals(1, calls.get());
+    assertTrue(Thread.currentThread().isInterrupted());
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void rejectsZeroAttempts()
+  {
+    FAST.maxAttempts(0);
+  }
+}
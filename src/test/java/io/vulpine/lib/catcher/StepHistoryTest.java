@@ -0,0 +1,105 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StepHistoryTest
+{
+  @Before
+  public void start()
+  {
+    StepHistory.clear();
+  }
+
+  @After
+  public void stop()
+  {
+    Catcher.instrument(false);
+    StepHistory.clear();
+  }
+
+  @Test
+  public void recordsNothingWhileOff()
+  {
+    Catcher.instrument(false);
+
+    Catcher.with(() -> "1").apply(Integer::parseInt);
+
+    assertTrue(StepHistory.recent().isEmpty());
+  }
+
+  @Test
+  public void recordsEachStepWhileOn()
+  {
+    Catcher.instrument(true);
+
+    final IllegalStateException thrown = new IllegalStateException();
+
+    Catcher.with(() -> " 1 ")
+      .apply(String::trim)
+      .apply(s -> (Integer) null);
+    Catcher.with(() -> 1)
+      .handle(e -> {})
+      .apply(i -> { throw thrown; });
+
+    final List < StepHistory.Step > steps = StepHistory.recent();
+
+    assertEquals(3, steps.size());
+    assertEquals(StepHistory.Outcome.VALUE, steps.get(0).outcome());
+    assertEquals(StepHistory.Outcome.EMPTY, steps.get(1).outcome());
+    assertEquals(StepHistory.Outcome.FAILED, steps.get(2).outcome());
+    assertSame(thrown, steps.get(2).exception());
+  }
+
+  @Test
+  public void recordsReturnedResults()
+  {
+    Catcher.instrument(true);
+
+    final StacklessException miss = new StacklessException("miss");
+
+    Catcher.with(() -> 1).applyResult(i -> Result.success(i));
+    Catcher.with(() -> 1).applyResult(i -> Result.< Integer >failure(miss));
+    Catcher.with(() -> 1).applyResult(i -> (Result < Integer >) null);
+
+    final List < StepHistory.Step > steps = StepHistory.recent();
+
+    assertEquals(StepHistory.Outcome.VALUE, steps.get(0).outcome());
+    assertEquals(StepHistory.Outcome.FAILED, steps.get(1).outcome());
+    assertSame(miss, steps.get(1).exception());
+    assertEquals(StepHistory.Outcome.EMPTY, steps.get(2).outcome());
+  }
+
+  @Test
+  public void keepsOnlyTheMostRecentSteps()
+  {
+    Catcher.instrument(true);
+
+    for ( int i = 0; i < StepHistory.CAPACITY + 10; i++ ) {
+      final int n = i;
+      Catcher.with(() -> n).apply(v -> v == StepHistory.CAPACITY + 9 ? null : v);
+    }
+
+    final List < StepHistory.Step > steps = StepHistory.recent();
+
+    assertEquals(StepHistory.CAPACITY, steps.size());
+    assertEquals(StepHistory.Outcome.EMPTY, steps.get(StepHistory.CAPACITY - 1).outcome());
+  }
+
+  @Test
+  public void historyIsPerThread() throws Exception
+  {
+    Catcher.instrument(true);
+
+    final Thread other = new Thread(() -> Catcher.with(() -> 1).apply(i -> i));
+    other.start();
+    other.join();
+
+    assertTrue(StepHistory.recent().isEmpty());
+  }
+}
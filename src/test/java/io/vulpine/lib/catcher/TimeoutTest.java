@@ -0,0 +1,135 @@
+package io.vulpine.lib.catcher;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class TimeoutTest
+{
+  private static final Duration TIMEOUT = Duration.ofMillis(20);
+
+  @After
+  public void clearInterrupt()
+  {
+    Thread.interrupted();
+  }
+
+  @Test
+  public void returnsResultWithinTimeout()
+  {
+    assertEquals("ok", Catcher.call(() -> "ok", TIMEOUT, e -> "fallback"));
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void interruptsBlockedSupplier()
+  {
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    final String out = Catcher.call(
+      () -> {
+        Thread.sleep(10_000);
+        return "ok";
+      },
+      TIMEOUT,
+      seen::set,
+      () -> "fallback"
+    );
+
+    assertEquals("fallback", out);
+    assertTrue(seen.get() instanceof TimeoutException);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void discardsResultOfSupplierIgnoringInterrupts()
+  {
+    final String out = Catcher.call(
+      () -> {
+        final long until = System.nanoTime() + TIMEOUT.toNanos() * 3;
+        while ( System.nanoTime() < until ) {
+          Thread.yield();
+        }
+        return "late";
+      },
+      TIMEOUT,
+      e -> e instanceof TimeoutException ? "timeout" : "other"
+    );
+
+    assertEquals("timeout", out);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void passesSupplierFailureThrough()
+  {
+    final IllegalStateException thrown = new IllegalStateException();
+    final AtomicReference < Exception > seen = new AtomicReference <>();
+
+    Catcher.call(() -> { throw thrown; }, TIMEOUT, seen::set);
+
+    assertSame(thrown, seen.get());
+  }
+
+  @Test
+  public void keepsInterruptPendingBeforeTheCall()
+  {
+    Thread.currentThread().interrupt();
+
+    final String out = Catcher.call(
+      () -> {
+        final long until = System.nanoTime() + TIMEOUT.toNanos() * 3;
+        while ( System.nanoTime() < until ) {
+          Thread.yield();
+        }
+        return "late";
+      },
+      TIMEOUT,
+      e -> "fallback"
+    );
+
+    assertEquals("fallback", out);
+    assertTrue(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void keepsInterruptPendingBeforeASuccessfulCall()
+  {
+    Thread.currentThread().interrupt();
+
+    assertEquals("ok", Catcher.call(() -> "ok", TIMEOUT, e -> "fallback"));
+    assertTrue(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void timerSurvivesTaskThrowingError() throws Exception
+  {
+    final CountDownLatch fired = new CountDownLatch(1);
+
+    TimerWheel.shared().schedule(
+      () -> { throw new AssertionError("boom"); },
+      TimeUnit.MILLISECONDS.toNanos(1)
+    );
+    TimerWheel.shared().schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(5));
+
+    assertTrue(fired.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void cancelledTimeoutDoesNotFire() throws Exception
+  {
+    final CountDownLatch fired = new CountDownLatch(1);
+    final TimerWheel.Timeout t = TimerWheel.shared()
+      .schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(5));
+
+    assertTrue(t.cancel());
+    assertFalse(fired.await(50, TimeUnit.MILLISECONDS));
+  }
+}